@@ -0,0 +1,77 @@
+package org.example.benchmarks;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline and exits with status 1 when any
+ * benchmark got slower than the threshold (default 10%, {@code -Dregression.threshold=0.1}).
+ * A missing baseline is created from the current results.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar org.example.benchmarks.BenchmarkComparison <result.json> <baseline.json>}
+ */
+public class BenchmarkComparison {
+
+    private static final double THRESHOLD = Double.parseDouble(System.getProperty("regression.threshold", "0.1"));
+
+    public static void main(String[] args) throws IOException {
+        Path current = Path.of(args[0]);
+        Path baseline = Path.of(args[1]);
+        if (!Files.exists(baseline)) {
+            Files.copy(current, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("No baseline found, stored " + current + " as " + baseline);
+            return;
+        }
+        Map<String, Score> before = read(baseline);
+        Map<String, Score> after = read(current);
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, Score> entry : new TreeMap<>(after).entrySet()) {
+            Score now = entry.getValue();
+            Score then = before.get(entry.getKey());
+            if (then == null) {
+                System.out.printf("%-70s %14s %11.3f %s %9s%n", entry.getKey(), "-", now.value, now.unit, "new");
+                continue;
+            }
+            double change = (now.value - then.value) / then.value;
+            boolean regressed = now.lowerIsBetter ? change > THRESHOLD : change < -THRESHOLD;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %11.3f %s %11.3f %s %+8.1f%%%s%n", entry.getKey(), then.value, then.unit,
+                    now.value, now.unit, change * 100, regressed ? "  REGRESSION" : "");
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than " + Math.round(THRESHOLD * 100) + "%");
+            System.exit(1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Score> read(Path file) throws IOException {
+        List<Map<String, Object>> results = new Json().toType(Files.readString(file), Json.LIST_OF_MAPS_TYPE);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (Map<String, Object> result : results) {
+            String key = (String) result.get("benchmark");
+            Object params = result.get("params");
+            if (params instanceof Map<?, ?> map && !map.isEmpty()) {
+                key += new TreeMap<>((Map<String, Object>) map);
+            }
+            Map<String, Object> metric = (Map<String, Object>) result.get("primaryMetric");
+            boolean lowerIsBetter = !"thrpt".equals(result.get("mode"));
+            scores.put(key, new Score(((Number) metric.get("score")).doubleValue(), (String) metric.get("scoreUnit"), lowerIsBetter));
+        }
+        return scores;
+    }
+
+    private record Score(double value, String unit, boolean lowerIsBetter) {
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.benchmarks;
+
+import org.example.FixtureServer;
+
+/**
+ * Points the fixture server at the root project's fixture pages when benchmarks run from {@code benchmarks/}.
+ */
+final class BenchmarkFixtures {
+
+    static {
+        if (System.getProperty("fixtures.dir") == null) {
+            System.setProperty("fixtures.dir", "../src/test/resources/fixtures");
+        }
+    }
+
+    private BenchmarkFixtures() {
+    }
+
+    static String url(String name) {
+        return FixtureServer.fixture(name);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.benchmarks;
+
+import org.example.Driver;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * One browser session per benchmark trial, started with the {@code browser.profile} profile.
+ */
+@State(Scope.Benchmark)
+public class BrowserState {
+
+    WebDriver wd;
+
+    @Setup(Level.Trial)
+    public void start() {
+        wd = Driver.createWebDriver();
+    }
+
+    @TearDown(Level.Trial)
+    public void quit() {
+        wd.quit();
+    }
+
+    void open(String fixture) {
+        wd.get(BenchmarkFixtures.url(fixture));
+    }
+}
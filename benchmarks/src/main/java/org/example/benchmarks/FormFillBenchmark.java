@@ -0,0 +1,87 @@
+package org.example.benchmarks;
+
+import org.example.FormBatch;
+import org.example.FormReset;
+import org.example.LocatorRegistry;
+import org.example.PageReset;
+import org.example.ReloadReset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Select;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormFillBenchmark {
+
+    private static final String[] MONTHS = {"Oct", "Jan", "Dec"};
+
+    private final String createAccountXpath = "//a[@data-testid='open-registration-form-button']";
+    private final String firstNameXpath = "//input[@name='firstname']";
+    private final String lastNameXpath = "//input[@name='lastname']";
+    private final String mobileOrEmailXpath = "//input[@name = 'reg_email__' ]";
+    private final String retypeEmailXpath = "//input[@name='reg_email_confirmation__']";
+    private final String passwordXpath = "//input[@id='password_step_input']";
+    private final String birthdayMonthXpath = "//select[@name='birthday_month']";
+
+    private PageReset reset;
+    private int month;
+
+    @Setup(Level.Trial)
+    public void openFixture(BrowserState browser) {
+        ReloadReset reload = new ReloadReset(BenchmarkFixtures.url("registration.html"),
+                wd -> wd.findElement(By.xpath(createAccountXpath)).click());
+        reset = new FormReset(reload, "//form[@id='reg']", "return true;");
+    }
+
+    @Setup(Level.Invocation)
+    public void resetForm(BrowserState browser) {
+        reset.prepare(browser.wd);
+    }
+
+    @Benchmark
+    public void fillRegistrationForm(BrowserState browser) {
+        LocatorRegistry locators = LocatorRegistry.of(browser.wd);
+        locators.find(firstNameXpath).sendKeys("Olga");
+        locators.find(lastNameXpath).sendKeys("Novikova");
+        locators.find(mobileOrEmailXpath).sendKeys("test@test.com");
+        locators.find(retypeEmailXpath).sendKeys("test@test.com");
+        locators.find(passwordXpath).sendKeys("QwertY45");
+    }
+
+    @Benchmark
+    public List<FormBatch.FieldResult> fillRegistrationFormBatched(BrowserState browser) {
+        return new FormBatch()
+                .fill(firstNameXpath, "Olga")
+                .fill(lastNameXpath, "Novikova")
+                .fill(mobileOrEmailXpath, "test@test.com")
+                .fill(retypeEmailXpath, "test@test.com")
+                .fill(passwordXpath, "QwertY45")
+                .run(browser.wd);
+    }
+
+    @Benchmark
+    public String selectMonthByVisibleText(BrowserState browser) {
+        WebDriver wd = browser.wd;
+        Select select = new Select(LocatorRegistry.of(wd).find(birthdayMonthXpath));
+        select.selectByVisibleText(MONTHS[month++ % MONTHS.length]);
+        return select.getFirstSelectedOption().getText();
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.benchmarks;
+
+import org.example.LocatorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+
+    private final String firstNameXpath = "//input[@name='firstname']";
+
+    @Setup(Level.Trial)
+    public void openFixture(BrowserState browser) {
+        browser.open("registration.html");
+    }
+
+    @Benchmark
+    public WebElement findByXpath(BrowserState browser) {
+        return browser.wd.findElement(By.xpath(firstNameXpath));
+    }
+
+    @Benchmark
+    public WebElement findByCss(BrowserState browser) {
+        return browser.wd.findElement(By.cssSelector("input[name='firstname']"));
+    }
+
+    @Benchmark
+    public WebElement findThroughRegistry(BrowserState browser) {
+        return LocatorRegistry.of(browser.wd).find(firstNameXpath);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.interactions.Actions;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MenuHoverBenchmark {
+
+    private static final String[] COMPANY_SUBMENU = {"About us", "Our vision", "Our Team", "Quality", "R&D", "Sustainability"};
+
+    private final String homeXpath = "//a[text()='Home']";
+    private final String companyXpath = "//a[text()='Company']";
+
+    @Setup(Level.Trial)
+    public void openFixture(BrowserState browser) {
+        browser.open("menu.html");
+    }
+
+    @Setup(Level.Invocation)
+    public void moveAway(BrowserState browser) {
+        new Actions(browser.wd).moveToElement(browser.wd.findElement(By.xpath(homeXpath))).perform();
+    }
+
+    @Benchmark
+    public boolean hoverCompanySubmenu(BrowserState browser) {
+        WebDriver wd = browser.wd;
+        new Actions(wd).moveToElement(wd.findElement(By.xpath(companyXpath))).build().perform();
+        boolean displayed = true;
+        for (String item : COMPANY_SUBMENU) {
+            displayed &= wd.findElement(By.xpath("//a[text()='" + item + "']")).isDisplayed();
+        }
+        return displayed;
+    }
+}
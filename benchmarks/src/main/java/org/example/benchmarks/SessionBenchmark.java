@@ -0,0 +1,40 @@
+package org.example.benchmarks;
+
+import org.example.BrowserProfile;
+import org.example.Driver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SessionBenchmark {
+
+    @Param({"headless", "fast"})
+    public String profile;
+
+    @Benchmark
+    public String createSession() {
+        WebDriver wd = Driver.createWebDriver(BrowserProfile.valueOf(profile.toUpperCase(Locale.ROOT)));
+        try {
+            return wd.getWindowHandle();
+        } finally {
+            wd.quit();
+        }
+    }
+}
@@ -1,21 +0,0 @@
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-
-public class Driver {
-
-    private static WebDriver webDriver;
-
-    public static WebDriver getWebDriver() {
-        if (webDriver == null) {
-            webDriver = new ChromeDriver();
-            webDriver.manage().window().fullscreen();
-        }
-        return webDriver;
-    }
-
-    public static void quitDriver() {
-        if (webDriver != null) {
-            webDriver.quit();
-        }
-    }
-}
@@ -0,0 +1,157 @@
+package org.example;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Browser launch settings, selected with the {@code browser.profile} system property.
+ */
+public enum BrowserProfile {
+
+    /**
+     * Visible fullscreen window, the way the suite has always run.
+     */
+    HEADED,
+
+    /**
+     * Headless with a preset viewport and no GPU.
+     */
+    HEADLESS,
+
+    /**
+     * Headless, plus images, fonts and common third-party scripts blocked through CDP. Local
+     * sessions get a user-data dir from {@code browser.userDataDir} that later sessions reuse, so
+     * its caches are only cold for the first session of each concurrent slot (and stay warm across
+     * runs while the directory is kept). Remote sessions use whatever profile the node gives them.
+     */
+    FAST;
+
+    private static final String WINDOW_SIZE = System.getProperty("browser.windowSize", "1920,1080");
+    private static final List<String> BLOCKED_URLS = List.of(
+            "*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.svg", "*.ico",
+            "*.woff", "*.woff2", "*.ttf", "*.otf",
+            "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*", "*connect.facebook.net*");
+
+    private static final Path USER_DATA_ROOT = Path.of(System.getProperty("browser.userDataDir", "target/chrome-profiles"));
+    private static final Queue<Path> freeUserDataDirs = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger userDataDirCount = new AtomicInteger();
+
+    public static BrowserProfile current() {
+        return parse(System.getProperty("browser.profile", "headed"));
+    }
+
+    public static BrowserProfile parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown browser profile '" + name + "', expected one of "
+                    + Arrays.toString(values()).toLowerCase(Locale.ROOT), e);
+        }
+    }
+
+    /**
+     * Whether a visible browser window can open here; Linux needs an X or Wayland display.
+     */
+    public static boolean displayAvailable() {
+        if (!System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("linux")) {
+            return true;
+        }
+        return System.getenv("DISPLAY") != null || System.getenv("WAYLAND_DISPLAY") != null;
+    }
+
+    public ChromeOptions options() {
+        ChromeOptions options = new ChromeOptions();
+        LoggingPreferences logs = new LoggingPreferences();
+        logs.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logs);
+        if (this == HEADED) {
+            return options;
+        }
+        options.addArguments("--headless=new", "--disable-gpu", "--window-size=" + WINDOW_SIZE);
+        if (this == FAST) {
+            options.addArguments("--blink-settings=imagesEnabled=false", "--disable-extensions",
+                    "--no-first-run", "--disable-background-networking");
+        }
+        return options;
+    }
+
+    /**
+     * Starts a session with this profile. With {@link #FAST} the returned user-data dir must be handed
+     * back through {@link #releaseUserDataDir(Path)} once the session is quit; it is {@code null} otherwise.
+     */
+    public Session start() {
+        ChromeOptions options = options();
+        Path userDataDir = null;
+        if (this == FAST) {
+            userDataDir = takeUserDataDir();
+            options.addArguments("--user-data-dir=" + userDataDir.toAbsolutePath());
+        }
+        ChromeDriver driver = new ChromeDriver(options);
+        if (this == HEADED) {
+            driver.manage().window().fullscreen();
+        }
+        if (this == FAST) {
+            driver.executeCdpCommand("Network.enable", Map.of());
+            driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", BLOCKED_URLS));
+        }
+        return new Session(driver, userDataDir);
+    }
+
+    /**
+     * Starts a session with this profile on a remote WebDriver endpoint. User-data dirs live on the
+     * node, so FAST only blocks URLs there, and only when the node exposes CDP.
+     */
+    public WebDriver startRemote(URL node) {
+        WebDriver driver = new Augmenter().augment(new RemoteWebDriver(node, options()));
+        if (this == HEADED) {
+            driver.manage().window().fullscreen();
+        }
+        if (this == FAST && driver instanceof HasCdp cdp) {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", BLOCKED_URLS));
+        }
+        return driver;
+    }
+
+    public static void releaseUserDataDir(Path dir) {
+        if (dir != null) {
+            freeUserDataDirs.add(dir);
+        }
+    }
+
+    private static Path takeUserDataDir() {
+        Path dir = freeUserDataDirs.poll();
+        if (dir != null) {
+            return dir;
+        }
+        dir = USER_DATA_ROOT.resolve("profile-" + userDataDirCount.incrementAndGet());
+        try {
+            return Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Session(WebDriver driver, Path userDataDir) {
+    }
+}
@@ -0,0 +1,99 @@
+package org.example;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.Logs;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * Times every WebDriver, WebElement, navigation, window and alert call of a decorated
+ * session and reports it to {@link RunMetrics} under the test running on the calling thread.
+ */
+public class CommandMetrics implements WebDriverListener {
+
+    private static final Set<Class<?>> ACCESSORS = Set.of(WebDriver.Options.class, WebDriver.Navigation.class,
+            WebDriver.TargetLocator.class, WebDriver.Timeouts.class, WebDriver.Window.class, Logs.class);
+
+    private static final ThreadLocal<String> currentTest = ThreadLocal.withInitial(() -> "none");
+    private static final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final String node;
+
+    public CommandMetrics() {
+        this(null);
+    }
+
+    /**
+     * @param node label of the remote node the session runs on, or {@code null} for a local browser
+     */
+    public CommandMetrics(String node) {
+        this.node = node;
+    }
+
+    public static void setCurrentTest(String test) {
+        currentTest.set(test);
+    }
+
+    public static String currentTest() {
+        return currentTest.get();
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method, args);
+    }
+
+    private void finish(Object target, Method method, Object[] args) {
+        Long start = starts.get().poll();
+        if (start == null || isAccessor(method)) {
+            return;
+        }
+        String locator = args != null && args.length > 0 && args[0] instanceof By by ? by.toString() : null;
+        RunMetrics.recordCommand(currentTest.get(), node, commandName(target, method), locator, System.nanoTime() - start);
+    }
+
+    /**
+     * Calls like {@code manage()} or {@code switchTo()} only hand out the object the real command is sent through.
+     */
+    static boolean isAccessor(Method method) {
+        return ACCESSORS.contains(method.getReturnType());
+    }
+
+    static String commandName(Object target, Method method) {
+        String type;
+        if (target instanceof WebElement) {
+            type = "WebElement";
+        } else if (target instanceof WebDriver) {
+            type = "WebDriver";
+        } else if (target instanceof WebDriver.Navigation) {
+            type = "Navigation";
+        } else if (target instanceof WebDriver.TargetLocator) {
+            type = "TargetLocator";
+        } else if (target instanceof WebDriver.Window) {
+            type = "Window";
+        } else if (target instanceof Alert) {
+            type = "Alert";
+        } else {
+            type = "Options";
+        }
+        return type + "." + method.getName();
+    }
+}
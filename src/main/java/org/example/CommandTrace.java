@@ -0,0 +1,185 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the last {@code artifacts.trace} (default 50) commands of the test running on each thread
+ * in a ring buffer, so a failure can show what led up to it. Entries hold references only and are
+ * formatted when a trace is actually read.
+ * <p>
+ * After each {@code get} the page source is kept as well, the last {@code artifacts.snapshots}
+ * (default 3) of them, but only while that stays cheap: a session whose first snapshot takes longer
+ * than {@code artifacts.snapshotBudgetMs} (default 20) takes no more.
+ * <p>
+ * The time spent here is counted per thread since the last {@link #reset()}; what the event-firing
+ * decorator spends dispatching to this listener is measured by {@code CommandTraceOverheadTests}.
+ */
+public class CommandTrace implements WebDriverListener {
+
+    private static final Logger logger = LogManager.getLogger(CommandTrace.class);
+    private static final int SIZE = Integer.getInteger("artifacts.trace", 50);
+    private static final int SNAPSHOTS = Integer.getInteger("artifacts.snapshots", 3);
+    private static final long SNAPSHOT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("artifacts.snapshotBudgetMs", 20));
+
+    private static final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+    private static volatile boolean snapshotsAllowed = SNAPSHOTS > 0;
+
+    private boolean snapshots = true;
+
+    /**
+     * Starts a new trace for the test about to run on this thread.
+     */
+    public static void reset() {
+        state.get().clear();
+    }
+
+    /**
+     * The unwrapped driver the current test last talked to, for capturing artifacts without
+     * adding to the trace or the metrics; {@code null} if it has not used one.
+     */
+    public static WebDriver driver() {
+        return state.get().driver;
+    }
+
+    public static List<String> lines() {
+        return state.get().lines();
+    }
+
+    public static List<Snapshot> snapshots() {
+        return new ArrayList<>(state.get().snapshots);
+    }
+
+    /**
+     * Time this thread spent recording its trace and snapshots since {@link #reset()}.
+     */
+    public static long overheadNanos() {
+        return state.get().overheadNanos;
+    }
+
+    public static void disableSnapshots() {
+        snapshotsAllowed = false;
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(target, method, args, null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(target, method, args, e.getCause());
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        if (!snapshots || !snapshotsAllowed) {
+            return;
+        }
+        long start = System.nanoTime();
+        State current = state.get();
+        try {
+            current.snapshot(new Snapshot(Instant.now(), url, driver.getPageSource()));
+        } catch (WebDriverException e) {
+            snapshots = false;
+        }
+        long took = System.nanoTime() - start;
+        current.overheadNanos += took;
+        if (took > SNAPSHOT_BUDGET_NANOS) {
+            snapshots = false;
+            logger.debug("DOM snapshot took {} ms, no more snapshots for this session", TimeUnit.NANOSECONDS.toMillis(took));
+        }
+    }
+
+    private static void record(Object target, Method method, Object[] args, Throwable error) {
+        if (CommandMetrics.isAccessor(method)) {
+            return;
+        }
+        long start = System.nanoTime();
+        State current = state.get();
+        current.add(new Entry(System.currentTimeMillis(), target, method, args, error));
+        current.overheadNanos += System.nanoTime() - start;
+    }
+
+    public record Snapshot(Instant taken, String url, String html) {
+    }
+
+    private record Entry(long millis, Object target, Method method, Object[] args, Throwable error) {
+
+        private String format() {
+            String line = Instant.ofEpochMilli(millis) + " " + CommandMetrics.commandName(target, method);
+            if (args != null && args.length > 0) {
+                line += Arrays.stream(args).map(Entry::describe).collect(Collectors.joining(", ", "(", ")"));
+            }
+            if (error != null) {
+                line += " -> " + error.getClass().getSimpleName() + ": " + String.valueOf(error.getMessage()).lines().findFirst().orElse("");
+            }
+            return line;
+        }
+
+        private static String describe(Object arg) {
+            String s = arg instanceof CharSequence[] keys ? String.join("", keys) : String.valueOf(arg);
+            return s.length() > 120 ? s.substring(0, 117) + "..." : s;
+        }
+    }
+
+    private static final class State {
+        private final Entry[] ring = new Entry[Math.max(1, SIZE)];
+        private final Deque<Snapshot> snapshots = new ArrayDeque<>();
+        private int next;
+        private long count;
+        private long overheadNanos;
+        private WebDriver driver;
+
+        private void add(Entry entry) {
+            ring[next] = entry;
+            next = (next + 1) % ring.length;
+            count++;
+            if (entry.target instanceof WebDriver wd) {
+                driver = wd;
+            }
+        }
+
+        private void snapshot(Snapshot snapshot) {
+            if (snapshots.size() == SNAPSHOTS) {
+                snapshots.removeFirst();
+            }
+            snapshots.addLast(snapshot);
+        }
+
+        private List<String> lines() {
+            List<String> lines = new ArrayList<>();
+            if (count > ring.length) {
+                lines.add("... " + (count - ring.length) + " earlier commands");
+            }
+            int size = (int) Math.min(count, ring.length);
+            for (int i = 0; i < size; i++) {
+                lines.add(ring[(next - size + i + ring.length) % ring.length].format());
+            }
+            return lines;
+        }
+
+        private void clear() {
+            Arrays.fill(ring, null);
+            snapshots.clear();
+            next = 0;
+            count = 0;
+            overheadNanos = 0;
+            driver = null;
+        }
+    }
+}
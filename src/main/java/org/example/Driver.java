@@ -0,0 +1,62 @@
+package org.example;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+public class Driver {
+
+    private static final RemoteDispatcher remote = RemoteDispatcher.fromSystemProperties();
+    private static final DriverPool pool = new DriverPool(settings(), Driver::createWebDriver);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            pool.shutdown();
+            if (remote != null) {
+                remote.close();
+            }
+        }, "driver-pool-shutdown"));
+    }
+
+    public static WebDriver getWebDriver() {
+        return pool.acquire();
+    }
+
+    public static void releaseDriver() {
+        pool.release();
+    }
+
+    /**
+     * Makes the next {@link #releaseDriver()} quit the calling thread's session instead of pooling it.
+     */
+    public static void discardCurrent() {
+        pool.discardCurrent();
+    }
+
+    public static void quitDriver() {
+        pool.shutdown();
+    }
+
+    public static WebDriver createWebDriver() {
+        return remote != null ? remote.createWebDriver(BrowserProfile.current()) : createWebDriver(BrowserProfile.current());
+    }
+
+    /**
+     * Remote runs size the pool to the nodes' capacity unless {@code driver.pool.size} says otherwise.
+     */
+    private static DriverPool.Settings settings() {
+        DriverPool.Settings settings = DriverPool.Settings.fromSystemProperties();
+        return remote != null && System.getProperty("driver.pool.size") == null ? settings.withSize(remote.capacity()) : settings;
+    }
+
+    public static WebDriver createWebDriver(BrowserProfile profile) {
+        BrowserProfile.Session session = profile.start();
+        WebDriver webDriver = session.driver();
+        webDriver.manage().timeouts().scriptTimeout(WaitEngine.MAX_WAIT.plusSeconds(5));
+        return LocatorRegistry.attach(webDriver, new CommandMetrics(), new CommandTrace(), new WebDriverListener() {
+            @Override
+            public void afterQuit(WebDriver driver) {
+                BrowserProfile.releaseUserDataDir(session.userDataDir());
+            }
+        });
+    }
+}
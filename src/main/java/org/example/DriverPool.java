@@ -0,0 +1,204 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of browser sessions. A session is checked out by the calling thread
+ * and stays bound to it until {@link #release()} is called from the same thread.
+ */
+public class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private final Settings settings;
+    private final Supplier<WebDriver> factory;
+    private final Semaphore permits;
+    private final Deque<PooledSession> idle = new ArrayDeque<>();
+    private final Set<PooledSession> leased = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<PooledSession> current = new ThreadLocal<>();
+    private final ScheduledExecutorService evictor;
+
+    public DriverPool(Settings settings, Supplier<WebDriver> factory) {
+        this.settings = settings;
+        this.factory = factory;
+        this.permits = new Semaphore(settings.size(), true);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "driver-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, settings.idleTimeout().toSeconds() / 2);
+        evictor.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.SECONDS);
+    }
+
+    public WebDriver acquire() {
+        PooledSession session = current.get();
+        if (session != null) {
+            return session.driver;
+        }
+        permits.acquireUninterruptibly();
+        try {
+            session = takeHealthyIdle();
+            if (session == null) {
+                session = new PooledSession(factory.get());
+                logger.debug("Created browser session, pool size {}", settings.size());
+            }
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        session.uses++;
+        leased.add(session);
+        current.set(session);
+        return session.driver;
+    }
+
+    public void release() {
+        PooledSession session = current.get();
+        if (session == null) {
+            return;
+        }
+        current.remove();
+        leased.remove(session);
+        try {
+            if (session.discard || session.uses >= settings.maxReuse()) {
+                quit(session);
+            } else {
+                session.lastUsed = System.nanoTime();
+                synchronized (idle) {
+                    idle.push(session);
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Marks the session held by the calling thread so that it is quit instead of
+     * returned to the pool on the next {@link #release()}.
+     */
+    public void discardCurrent() {
+        PooledSession session = current.get();
+        if (session != null) {
+            session.discard = true;
+        }
+    }
+
+    public WebDriver current() {
+        PooledSession session = current.get();
+        return session == null ? null : session.driver;
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+
+    public void shutdown() {
+        evictor.shutdownNow();
+        List<PooledSession> all = new ArrayList<>(leased);
+        synchronized (idle) {
+            all.addAll(idle);
+            idle.clear();
+        }
+        leased.clear();
+        all.forEach(this::quit);
+    }
+
+    private PooledSession takeHealthyIdle() {
+        while (true) {
+            PooledSession session;
+            synchronized (idle) {
+                session = idle.poll();
+            }
+            if (session == null) {
+                return null;
+            }
+            if (isExpired(session) || !isHealthy(session)) {
+                quit(session);
+                continue;
+            }
+            return session;
+        }
+    }
+
+    private boolean isHealthy(PooledSession session) {
+        try {
+            session.driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Dropping unhealthy browser session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledSession session) {
+        return System.nanoTime() - session.lastUsed > settings.idleTimeout().toNanos();
+    }
+
+    private void evictIdle() {
+        List<PooledSession> expired = new ArrayList<>();
+        synchronized (idle) {
+            Iterator<PooledSession> it = idle.iterator();
+            while (it.hasNext()) {
+                PooledSession session = it.next();
+                if (isExpired(session)) {
+                    it.remove();
+                    expired.add(session);
+                }
+            }
+        }
+        expired.forEach(this::quit);
+    }
+
+    private void quit(PooledSession session) {
+        WindowManager.forget(session.driver);
+        try {
+            session.driver.quit();
+        } catch (WebDriverException e) {
+            logger.warn("Failed to quit browser session: {}", e.getMessage());
+        }
+    }
+
+    private static final class PooledSession {
+        private final WebDriver driver;
+        private int uses;
+        private long lastUsed = System.nanoTime();
+        private boolean discard;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    public record Settings(int size, int maxReuse, Duration idleTimeout) {
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("driver.pool.size", Runtime.getRuntime().availableProcessors()),
+                    Integer.getInteger("driver.pool.maxReuse", 50),
+                    Duration.ofSeconds(Long.getLong("driver.pool.idleTimeoutSec", 60)));
+        }
+
+        public Settings withSize(int size) {
+            return new Settings(size, maxReuse, idleTimeout);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package org.example;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Local HTTP server that stands in for the live sites.
+ * <ul>
+ *     <li>{@code live} - tests talk to the real sites, the server only serves local fixtures.</li>
+ *     <li>{@code record} - requests are proxied to the real site and every response is saved
+ *     into the versioned snapshot directory.</li>
+ *     <li>{@code replay} - responses are served from the snapshot directory only.</li>
+ * </ul>
+ * The mode comes from {@code fixtures.mode}; without it the server replays when a snapshot
+ * for {@code fixtures.version} exists and runs live otherwise. Pages are addressed as
+ * {@code http://<fixtures.host>:port/<host>/<path>}; absolute http(s) and protocol-relative URLs
+ * inside recorded HTML, CSS and JS are rewritten to that form so that their assets get recorded
+ * too and replay never leaves the machine. Responses keep their recorded status code.
+ * <p>
+ * The server listens on {@code fixtures.host}, loopback by default. Browsers on remote nodes
+ * (see {@link RemoteDispatcher}) cannot reach that; give them an address of this machine they can
+ * reach, or run them in {@code live} mode against the real sites.
+ */
+public class FixtureServer {
+
+    public enum Mode { LIVE, RECORD, REPLAY }
+
+    private static final Logger logger = LogManager.getLogger(FixtureServer.class);
+    /**
+     * {@code https://host/}, {@code http://host/} and protocol-relative {@code //host/}, but not a {@code //} inside a path.
+     */
+    private static final Pattern ABSOLUTE_URL = Pattern.compile("(?<![\\w/:])(?:https?:)?//([a-z0-9.-]+\\.[a-z]{2,})/");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "json", "application/json",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "gif", "image/gif",
+            "svg", "image/svg+xml",
+            "ico", "image/x-icon",
+            "woff2", "font/woff2");
+
+    private static final Path FIXTURES = Path.of(System.getProperty("fixtures.dir", "src/test/resources/fixtures"));
+    private static final Path SNAPSHOTS = Path.of(System.getProperty("snapshots.dir", "src/test/resources/snapshots"))
+            .resolve(System.getProperty("fixtures.version", "v1"));
+
+    private static final String HOST = System.getProperty("fixtures.host", InetAddress.getLoopbackAddress().getHostAddress());
+
+    private static final Set<String> knownHosts = ConcurrentHashMap.newKeySet();
+    private static volatile FixtureServer instance;
+
+    private final Mode mode;
+    private final HttpServer server;
+    private final HttpClient client = HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NORMAL).build();
+
+    private FixtureServer(Mode mode) throws IOException {
+        this.mode = mode;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getByName(HOST), Integer.getInteger("fixtures.port", 0)), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2, r -> {
+            Thread thread = new Thread(r, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0), "fixture-server-shutdown"));
+        logger.info("Fixture server in {} mode on {}:{}", mode, HOST, server.getAddress().getPort());
+    }
+
+    public static FixtureServer get() {
+        if (instance == null) {
+            synchronized (FixtureServer.class) {
+                if (instance == null) {
+                    try {
+                        instance = new FixtureServer(configuredMode());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the URL tests should open instead of {@code liveUrl} in the current mode.
+     */
+    public static String url(String liveUrl) {
+        if (configuredMode() == Mode.LIVE) {
+            return liveUrl;
+        }
+        URI uri = URI.create(liveUrl);
+        knownHosts.add(uri.getHost());
+        return get().base() + uri.getHost() + (uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+    }
+
+    /**
+     * Returns the URL of a page from the local fixtures directory.
+     */
+    public static String fixture(String name) {
+        return get().base() + "fixtures/" + name;
+    }
+
+    public static Mode configuredMode() {
+        String mode = System.getProperty("fixtures.mode");
+        if (mode != null) {
+            return Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        }
+        return Files.isDirectory(SNAPSHOTS) ? Mode.REPLAY : Mode.LIVE;
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    private String base() {
+        return "http://" + (HOST.contains(":") ? "[" + HOST + "]" : HOST) + ":" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getRawPath().substring(1);
+            if (path.startsWith("fixtures/")) {
+                serve(exchange, FIXTURES.resolve(path.substring("fixtures/".length())).normalize(), FIXTURES);
+                return;
+            }
+            int slash = path.indexOf('/');
+            String host = slash < 0 ? path : path.substring(0, slash);
+            String rest = slash < 0 ? "" : path.substring(slash + 1);
+            if (!isHost(host)) {
+                host = refererHost(exchange);
+                rest = path;
+            }
+            if (host == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            Path file = snapshotFile(host, rest, exchange.getRequestURI().getRawQuery());
+            if (!file.startsWith(SNAPSHOTS.resolve(host).normalize()) || !file.startsWith(SNAPSHOTS)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (mode == Mode.RECORD) {
+                record(exchange, host, rest, file);
+            }
+            serve(exchange, file, SNAPSHOTS);
+        }
+    }
+
+    private void record(HttpExchange exchange, String host, String rest, Path file) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        URI origin = URI.create("https://" + host + "/" + rest + (query == null ? "" : "?" + query));
+        HttpRequest.Builder request = HttpRequest.newBuilder(origin).GET();
+        String userAgent = exchange.getRequestHeaders().getFirst("User-Agent");
+        if (userAgent != null) {
+            request.header("User-Agent", userAgent);
+        }
+        try {
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            String contentType = response.headers().firstValue("Content-Type").orElse("application/octet-stream");
+            byte[] body = response.body();
+            if (contentType.contains("html") || contentType.contains("css") || contentType.contains("javascript")) {
+                body = ABSOLUTE_URL.matcher(new String(body, StandardCharsets.UTF_8))
+                        .replaceAll(m -> {
+                            knownHosts.add(m.group(1));
+                            return "/" + m.group(1) + "/";
+                        })
+                        .getBytes(StandardCharsets.UTF_8);
+            }
+            Files.createDirectories(file.getParent());
+            Files.write(file, body);
+            Files.writeString(typeFile(file), contentType);
+            if (response.statusCode() == 200) {
+                Files.deleteIfExists(statusFile(file));
+            } else {
+                Files.writeString(statusFile(file), String.valueOf(response.statusCode()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while recording " + origin, e);
+        }
+    }
+
+    private static void serve(HttpExchange exchange, Path file, Path root) throws IOException {
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", contentType(file));
+        Path status = statusFile(file);
+        int code = Files.isRegularFile(status) ? Integer.parseInt(Files.readString(status).trim()) : 200;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            exchange.sendResponseHeaders(code, size == 0 ? -1 : size);
+            OutputStream body = exchange.getResponseBody();
+            long sent = 0;
+            while (sent < size) {
+                sent += channel.transferTo(sent, size - sent, Channels.newChannel(body));
+            }
+        }
+    }
+
+    private static Path snapshotFile(String host, String rest, String query) {
+        String name = rest.isEmpty() || rest.endsWith("/") ? rest + "index.html" : rest;
+        if (query != null) {
+            name += "@" + URLEncoder.encode(query, StandardCharsets.UTF_8);
+        }
+        return SNAPSHOTS.resolve(host).resolve(name).normalize();
+    }
+
+    private static boolean isHost(String segment) {
+        return knownHosts.contains(segment) || (!segment.isEmpty() && Files.isDirectory(SNAPSHOTS.resolve(segment)));
+    }
+
+    private static String refererHost(HttpExchange exchange) {
+        String referer = exchange.getRequestHeaders().getFirst("Referer");
+        if (referer == null) {
+            return null;
+        }
+        String path = URI.create(referer).getRawPath();
+        String[] segments = path.split("/");
+        return segments.length > 1 && isHost(segments[1]) ? segments[1] : null;
+    }
+
+    private static String contentType(Path file) throws IOException {
+        Path type = typeFile(file);
+        if (Files.isRegularFile(type)) {
+            return Files.readString(type).trim();
+        }
+        String name = file.getFileName().toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    private static Path typeFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".type");
+    }
+
+    private static Path statusFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".status");
+    }
+}
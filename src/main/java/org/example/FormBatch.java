@@ -0,0 +1,124 @@
+package org.example;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Quotes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills fields and checks elements in a single {@code executeScript} round trip.
+ * Values are written through the native value setter followed by input/change events,
+ * so framework-controlled inputs see the change, but no real keystrokes are sent.
+ */
+public class FormBatch {
+
+    private static final String SCRIPT = """
+            const find = (css, xpath) => css ? document.querySelector(css)
+                    : document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            const visible = el => el.getClientRects().length > 0;
+            const results = [];
+            for (const [css, xpath, action, value] of arguments[0]) {
+                const el = find(css, xpath);
+                if (!el) {
+                    results.push({found: false, ok: false, value: null});
+                    continue;
+                }
+                if (action === 'fill') {
+                    const proto = el instanceof HTMLSelectElement ? HTMLSelectElement.prototype
+                            : el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;
+                    el.focus();
+                    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);
+                    el.dispatchEvent(new Event('input', {bubbles: true}));
+                    el.dispatchEvent(new Event('change', {bubbles: true}));
+                    results.push({found: true, ok: el.value === value, value: el.value});
+                } else if (action === 'displayed') {
+                    results.push({found: true, ok: visible(el), value: null});
+                } else {
+                    results.push({found: true, ok: true, value: null});
+                }
+            }
+            if (document.activeElement) {
+                document.activeElement.blur();
+            }
+            return results;
+            """;
+
+    private final List<Step> steps = new ArrayList<>();
+
+    public FormBatch fill(String xpath, String value) {
+        steps.add(new Step(Locator.of(xpath), "fill", value));
+        return this;
+    }
+
+    public FormBatch present(String xpath) {
+        steps.add(new Step(Locator.of(xpath), "present", null));
+        return this;
+    }
+
+    public FormBatch displayed(String xpath) {
+        steps.add(new Step(Locator.of(xpath), "displayed", null));
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<FieldResult> run(WebDriver wd) {
+        if (!(wd instanceof JavascriptExecutor)) {
+            return runStatic(wd);
+        }
+        List<List<String>> args = new ArrayList<>();
+        for (Step step : steps) {
+            args.add(Arrays.asList(step.locator.css(), step.locator.xpath(), step.action, step.value));
+        }
+        List<Map<String, Object>> raw = (List<Map<String, Object>>) ((JavascriptExecutor) wd).executeScript(SCRIPT, args);
+        List<FieldResult> results = new ArrayList<>(steps.size());
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            Map<String, Object> r = raw.get(i);
+            results.add(new FieldResult(step.locator.xpath(), step.action,
+                    Boolean.TRUE.equals(r.get("found")), Boolean.TRUE.equals(r.get("ok")), (String) r.get("value")));
+        }
+        return results;
+    }
+
+    /**
+     * Same steps through plain element calls, for sessions without script support such as DOM snapshots.
+     */
+    private List<FieldResult> runStatic(WebDriver wd) {
+        List<FieldResult> results = new ArrayList<>(steps.size());
+        for (Step step : steps) {
+            List<WebElement> found = wd.findElements(By.xpath(step.locator.xpath()));
+            if (found.isEmpty()) {
+                results.add(new FieldResult(step.locator.xpath(), step.action, false, false, null));
+                continue;
+            }
+            WebElement element = found.get(0);
+            switch (step.action) {
+                case "fill" -> {
+                    if (element.getTagName().equals("select")) {
+                        element.findElements(By.xpath(".//option[@value=" + Quotes.escape(step.value) + "]")).forEach(WebElement::click);
+                    } else {
+                        element.clear();
+                        element.sendKeys(step.value);
+                    }
+                    String value = element.getAttribute("value");
+                    results.add(new FieldResult(step.locator.xpath(), step.action, true, step.value.equals(value), value));
+                }
+                case "displayed" -> results.add(new FieldResult(step.locator.xpath(), step.action, true, element.isDisplayed(), null));
+                default -> results.add(new FieldResult(step.locator.xpath(), step.action, true, true, null));
+            }
+        }
+        return results;
+    }
+
+    public record FieldResult(String xpath, String action, boolean found, boolean ok, String value) {
+    }
+
+    private record Step(Locator locator, String action, String value) {
+    }
+}
@@ -0,0 +1,62 @@
+package org.example;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Keeps the page loaded and clears the form in place: inputs, selects and radios are
+ * reset, input/change events are fired so the page re-evaluates its own state, and
+ * extra windows are closed. Falls back to a full reload when the page is not in the
+ * expected state or the clean-state check fails afterwards.
+ */
+public class FormReset extends PageReset {
+
+    static final String FORM = "form";
+    static final String FALLBACK = "form->reload";
+
+    private static final String RESET_SCRIPT = """
+            const form = document.evaluate(arguments[0], document, null,
+                    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            if (!form || !location.href.startsWith(arguments[1]) || form.getClientRects().length === 0) {
+                return false;
+            }
+            form.reset();
+            for (const el of form.elements) {
+                el.dispatchEvent(new Event('input', {bubbles: true}));
+                el.dispatchEvent(new Event('change', {bubbles: true}));
+            }
+            if (document.activeElement) {
+                document.activeElement.blur();
+            }
+            """;
+
+    private final ReloadReset fallback;
+    private final String formXpath;
+    private final String script;
+
+    /**
+     * @param cleanStateCheck JavaScript function body that receives {@code form} and
+     *                        returns {@code true} when the reset left no leftovers behind
+     */
+    public FormReset(ReloadReset fallback, String formXpath, String cleanStateCheck) {
+        this.fallback = fallback;
+        this.formXpath = formXpath;
+        this.script = RESET_SCRIPT + "return (function(form) {" + cleanStateCheck + "})(form);";
+    }
+
+    @Override
+    protected String apply(WebDriver wd) {
+        try {
+            WindowManager.of(wd).closeOthers();
+            Object clean = ((JavascriptExecutor) wd).executeScript(script, formXpath, fallback.url());
+            if (Boolean.TRUE.equals(clean)) {
+                return FORM;
+            }
+        } catch (WebDriverException e) {
+            // fall through to a full reload
+        }
+        fallback.prepare(wd);
+        return FALLBACK;
+    }
+}
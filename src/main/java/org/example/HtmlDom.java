@@ -0,0 +1,245 @@
+package org.example;
+
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Lenient HTML to W3C DOM parser for page snapshots, so they can be queried with the JDK XPath engine.
+ * It understands what {@code outerHTML} produces: void elements, unquoted and bare attributes,
+ * raw text in script/style, comments and the common character references. Scripts are not run.
+ */
+public class HtmlDom {
+
+    private static final Set<String> VOID = Set.of("area", "base", "br", "col", "embed", "hr", "img", "input",
+            "link", "meta", "param", "source", "track", "wbr");
+    private static final Set<String> RAW_TEXT = Set.of("script", "style", "textarea", "title");
+    private static final Set<String> SELF_CLOSING_SIBLINGS = Set.of("li", "option", "p", "tr", "td", "th", "dt", "dd");
+
+    private final String html;
+    private final Document document;
+    private final Deque<Node> open = new ArrayDeque<>();
+    private int pos;
+
+    private HtmlDom(String html) {
+        this.html = html;
+        try {
+            this.document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static Document parse(String html) {
+        HtmlDom parser = new HtmlDom(html);
+        parser.run();
+        return parser.document;
+    }
+
+    private void run() {
+        Element root = document.createElement("html");
+        document.appendChild(root);
+        open.push(root);
+        while (pos < html.length()) {
+            if (html.startsWith("<!--", pos)) {
+                int end = html.indexOf("-->", pos + 4);
+                pos = end < 0 ? html.length() : end + 3;
+            } else if (html.startsWith("<!", pos) || html.startsWith("<?", pos)) {
+                int end = html.indexOf('>', pos);
+                pos = end < 0 ? html.length() : end + 1;
+            } else if (html.startsWith("</", pos)) {
+                closeTag();
+            } else if (html.charAt(pos) == '<' && pos + 1 < html.length() && Character.isLetter(html.charAt(pos + 1))) {
+                openTag();
+            } else {
+                int end = html.indexOf('<', pos + 1);
+                end = end < 0 ? html.length() : end;
+                text(html.substring(pos, end));
+                pos = end;
+            }
+        }
+    }
+
+    private void openTag() {
+        pos++;
+        String name = readName();
+        if (name.equals("html")) {
+            readAttributes(document.getDocumentElement());
+            return;
+        }
+        if (SELF_CLOSING_SIBLINGS.contains(name) && open.peek().getNodeName().equals(name)) {
+            open.pop();
+        }
+        Element element = document.createElement(name);
+        boolean selfClosed = readAttributes(element);
+        open.peek().appendChild(element);
+        if (selfClosed || VOID.contains(name)) {
+            return;
+        }
+        if (RAW_TEXT.contains(name)) {
+            String close = "</" + name;
+            int end = html.toLowerCase(Locale.ROOT).indexOf(close, pos);
+            end = end < 0 ? html.length() : end;
+            String content = html.substring(pos, end);
+            element.appendChild(document.createTextNode(name.equals("script") || name.equals("style") ? content : decode(content)));
+            int gt = html.indexOf('>', end);
+            pos = gt < 0 ? html.length() : gt + 1;
+            return;
+        }
+        open.push(element);
+    }
+
+    private void closeTag() {
+        pos += 2;
+        String name = readName();
+        int gt = html.indexOf('>', pos);
+        pos = gt < 0 ? html.length() : gt + 1;
+        for (Node node : open) {
+            if (node.getNodeName().equals(name)) {
+                while (open.size() > 1 && open.pop() != node) {
+                    // unwind elements left open inside the closed one
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads attributes up to the end of the tag and returns whether the tag was written as {@code <x/>}.
+     */
+    private boolean readAttributes(Element element) {
+        while (pos < html.length()) {
+            skipWhitespace();
+            if (pos >= html.length()) {
+                return false;
+            }
+            char c = html.charAt(pos);
+            if (c == '>') {
+                pos++;
+                return false;
+            }
+            if (c == '/' && html.startsWith("/>", pos)) {
+                pos += 2;
+                return true;
+            }
+            int start = pos;
+            while (pos < html.length() && "=> \t\r\n/".indexOf(html.charAt(pos)) < 0) {
+                pos++;
+            }
+            if (pos == start) {
+                pos++;
+                continue;
+            }
+            String name = html.substring(start, pos).toLowerCase(Locale.ROOT);
+            String value = "";
+            skipWhitespace();
+            if (pos < html.length() && html.charAt(pos) == '=') {
+                pos++;
+                skipWhitespace();
+                value = decode(readValue());
+            }
+            try {
+                if (!element.hasAttribute(name)) {
+                    element.setAttribute(name, value);
+                }
+            } catch (DOMException e) {
+                // not a valid XML name (framework bindings and the like), not needed for queries
+            }
+        }
+        return false;
+    }
+
+    private String readValue() {
+        if (pos >= html.length()) {
+            return "";
+        }
+        char quote = html.charAt(pos);
+        if (quote == '"' || quote == '\'') {
+            int end = html.indexOf(quote, pos + 1);
+            end = end < 0 ? html.length() : end;
+            String value = html.substring(pos + 1, end);
+            pos = Math.min(html.length(), end + 1);
+            return value;
+        }
+        int start = pos;
+        while (pos < html.length() && "> \t\r\n".indexOf(html.charAt(pos)) < 0) {
+            pos++;
+        }
+        return html.substring(start, pos);
+    }
+
+    private String readName() {
+        int start = pos;
+        while (pos < html.length() && (Character.isLetterOrDigit(html.charAt(pos)) || html.charAt(pos) == '-' || html.charAt(pos) == ':')) {
+            pos++;
+        }
+        return html.substring(start, pos).toLowerCase(Locale.ROOT);
+    }
+
+    private void skipWhitespace() {
+        while (pos < html.length() && Character.isWhitespace(html.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private void text(String raw) {
+        open.peek().appendChild(document.createTextNode(decode(raw)));
+    }
+
+    static String decode(String s) {
+        if (s.indexOf('&') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            int semi = c == '&' ? s.indexOf(';', i) : -1;
+            if (semi < 0 || semi - i > 10) {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            String entity = s.substring(i + 1, semi);
+            String decoded = switch (entity) {
+                case "amp" -> "&";
+                case "lt" -> "<";
+                case "gt" -> ">";
+                case "quot" -> "\"";
+                case "apos" -> "'";
+                case "nbsp" -> " ";
+                default -> numeric(entity);
+            };
+            if (decoded == null) {
+                sb.append(c);
+                i++;
+            } else {
+                sb.append(decoded);
+                i = semi + 1;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String numeric(String entity) {
+        if (!entity.startsWith("#") || entity.length() < 2) {
+            return null;
+        }
+        try {
+            int code = entity.charAt(1) == 'x' || entity.charAt(1) == 'X'
+                    ? Integer.parseInt(entity.substring(2), 16)
+                    : Integer.parseInt(entity.substring(1));
+            return new String(Character.toChars(code));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
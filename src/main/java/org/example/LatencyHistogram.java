@@ -0,0 +1,72 @@
+package org.example;
+
+/**
+ * Records latency samples in nanoseconds into fixed log-linear buckets: every power of two is
+ * split into {@value #SUB_BUCKETS} equal buckets, so percentiles are within about 6% of the true
+ * sample while memory stays constant however long the run is. Count, total and max are exact.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] buckets = new long[SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS];
+    private int count;
+    private long total;
+    private long max;
+
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[index(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public synchronized double meanNanos() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(count, total, max, percentile(0.50), percentile(0.95), percentile(0.99));
+    }
+
+    /**
+     * Upper edge of the bucket holding the sample of rank {@code ceil(quantile * count)}, capped at the max.
+     */
+    private long percentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(max, upperEdge(i));
+            }
+        }
+        return max;
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long upperEdge(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        long sub = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    public record Snapshot(int count, long totalNanos, long maxNanos, long p50Nanos, long p95Nanos, long p99Nanos) {
+    }
+}
@@ -0,0 +1,112 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selenium standalone servers on localhost, one process per node on consecutive ports, for
+ * running the remote mode without real grid machines. Output goes to {@code target/grid}.
+ */
+public class LocalGrid implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(LocalGrid.class);
+    public static final int DEFAULT_PORT = 4444;
+    private static final Duration STARTUP = Duration.ofSeconds(60);
+    private static final Path LOG_DIR = Path.of("target/grid");
+
+    private final List<Process> processes = new ArrayList<>();
+    private final List<URL> urls = new ArrayList<>();
+
+    private LocalGrid() {
+    }
+
+    /**
+     * Starts {@code nodes} standalone servers from {@code jar} and waits until all of them report ready.
+     */
+    public static LocalGrid start(int nodes, Path jar, int firstPort, int sessionsPerNode) {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Selenium server jar not found: " + jar.toAbsolutePath());
+        }
+        LocalGrid grid = new LocalGrid();
+        try {
+            Files.createDirectories(LOG_DIR);
+            for (int i = 0; i < nodes; i++) {
+                int port = firstPort + i;
+                Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-jar", jar.toAbsolutePath().toString(), "standalone",
+                        "--port", String.valueOf(port), "--max-sessions", String.valueOf(sessionsPerNode))
+                        .redirectErrorStream(true)
+                        .redirectOutput(LOG_DIR.resolve("node-" + port + ".log").toFile())
+                        .start();
+                grid.processes.add(process);
+                grid.urls.add(new URL("http://127.0.0.1:" + port));
+            }
+            for (URL url : grid.urls) {
+                awaitReady(url);
+            }
+        } catch (IOException | RuntimeException e) {
+            grid.close();
+            throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+        }
+        logger.info("Started {} local Selenium node(s) on ports {}-{}", nodes, firstPort, firstPort + nodes - 1);
+        return grid;
+    }
+
+    public List<URL> urls() {
+        return List.copyOf(urls);
+    }
+
+    @Override
+    public void close() {
+        processes.forEach(Process::destroy);
+        for (Process process : processes) {
+            try {
+                process.onExit().get();
+            } catch (Exception e) {
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+
+    private static void awaitReady(URL url) {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/status")).timeout(Duration.ofSeconds(2)).build();
+        long deadline = System.nanoTime() + STARTUP.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Map<String, Object> status = new Json().toType(client.send(request, HttpResponse.BodyHandlers.ofString()).body(), Json.MAP_TYPE);
+                if (status.get("value") instanceof Map<?, ?> value && Boolean.TRUE.equals(value.get("ready"))) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalStateException("Selenium node " + url + " not ready within " + STARTUP.toSeconds() + " s");
+    }
+}
@@ -0,0 +1,67 @@
+package org.example;
+
+import org.openqa.selenium.By;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * XPath string compiled once into the cheapest equivalent {@link By}. Simple
+ * {@code //tag[@attr='value']} expressions become CSS selectors, everything else stays XPath.
+ */
+public final class Locator {
+
+    private static final Pattern SIMPLE_ATTRIBUTE = Pattern.compile("^//(\\w+|\\*)\\[\\s*@([\\w-]+)\\s*=\\s*'([^'\"\\\\]*)'\\s*]$");
+    private static final Pattern ID = Pattern.compile("[A-Za-z][\\w-]*");
+    private static final Map<String, Locator> compiled = new ConcurrentHashMap<>();
+
+    private final String xpath;
+    private final String css;
+    private final By by;
+
+    private Locator(String xpath, String css) {
+        this.xpath = xpath;
+        this.css = css;
+        this.by = css == null ? By.xpath(xpath) : By.cssSelector(css);
+    }
+
+    public static Locator of(String xpath) {
+        return compiled.computeIfAbsent(xpath, Locator::compile);
+    }
+
+    public String xpath() {
+        return xpath;
+    }
+
+    /**
+     * Returns the equivalent CSS selector, or {@code null} when the XPath has none.
+     */
+    public String css() {
+        return css;
+    }
+
+    public By by() {
+        return by;
+    }
+
+    private static Locator compile(String xpath) {
+        Matcher m = SIMPLE_ATTRIBUTE.matcher(xpath.trim());
+        if (!m.matches()) {
+            return new Locator(xpath, null);
+        }
+        String tag = m.group(1).equals("*") ? "" : m.group(1);
+        String attribute = m.group(2);
+        String value = m.group(3);
+        if (attribute.equals("id") && ID.matcher(value).matches()) {
+            return new Locator(xpath, tag + "#" + value);
+        }
+        return new Locator(xpath, tag + "[" + attribute + "='" + value + "']");
+    }
+
+    @Override
+    public String toString() {
+        return by.toString();
+    }
+}
@@ -0,0 +1,200 @@
+package org.example;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Caches resolved elements of one browser session for the current page state.
+ * The cache is dropped on navigation, window or frame switches and on stale element errors.
+ * A session is used by one thread at a time, so the cache itself is not synchronized.
+ */
+public class LocatorRegistry {
+
+    private static final Map<WebDriver, LocatorRegistry> registries = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final Map<Locator, Latency> latencies = new ConcurrentHashMap<>();
+
+    private final WebDriver wd;
+    private final Map<Locator, WebElement> cache = new HashMap<>();
+    private final Map<Locator, WebElement> proxies = new HashMap<>();
+
+    private LocatorRegistry(WebDriver wd) {
+        this.wd = wd;
+    }
+
+    /**
+     * Decorates a freshly created session so that navigation invalidates its registry.
+     * Any extra listeners are attached by the same decorator.
+     */
+    public static WebDriver attach(WebDriver raw, WebDriverListener... extra) {
+        Invalidator invalidator = new Invalidator();
+        WebDriverListener[] listeners = new WebDriverListener[extra.length + 1];
+        listeners[0] = invalidator;
+        System.arraycopy(extra, 0, listeners, 1, extra.length);
+        WebDriver decorated = new EventFiringDecorator<>(listeners).decorate(raw);
+        invalidator.registry = new LocatorRegistry(decorated);
+        registries.put(decorated, invalidator.registry);
+        return decorated;
+    }
+
+    public static LocatorRegistry of(WebDriver wd) {
+        return registries.computeIfAbsent(wd, LocatorRegistry::new);
+    }
+
+    public WebElement find(String xpath) {
+        return find(Locator.of(xpath));
+    }
+
+    public WebElement find(Locator locator) {
+        WebElement element = cache.get(locator);
+        if (element != null) {
+            hits.increment();
+            return element;
+        }
+        misses.increment();
+        long start = System.nanoTime();
+        try {
+            element = WaitEngine.of(wd).await(locator);
+        } finally {
+            latencies.computeIfAbsent(locator, k -> new Latency()).add(System.nanoTime() - start);
+        }
+        cache.put(locator, element);
+        return element;
+    }
+
+    /**
+     * Applies {@code action} to the cached element and retries once with a fresh lookup if it went stale.
+     */
+    public <T> T with(String xpath, Function<WebElement, T> action) {
+        Locator locator = Locator.of(xpath);
+        try {
+            return action.apply(find(locator));
+        } catch (StaleElementReferenceException e) {
+            cache.remove(locator);
+            return action.apply(find(locator));
+        }
+    }
+
+    /**
+     * Returns a proxy that resolves {@code xpath} on first use and afterwards goes through the cache,
+     * so it survives navigation and stale elements. Page objects hold these instead of elements.
+     */
+    public WebElement lazy(String xpath) {
+        return proxies.computeIfAbsent(Locator.of(xpath), this::proxy);
+    }
+
+    private WebElement proxy(Locator locator) {
+        String xpath = locator.xpath();
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Lazy " + locator;
+            case "getWrappedElement" -> find(locator);
+            default -> with(xpath, element -> invoke(method, element, args));
+        };
+        return (WebElement) Proxy.newProxyInstance(LocatorRegistry.class.getClassLoader(),
+                new Class<?>[]{WebElement.class, WrapsElement.class}, handler);
+    }
+
+    private static Object invoke(Method method, WebElement element, Object[] args) {
+        try {
+            return method.invoke(element, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new WebDriverException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new WebDriverException(e);
+        }
+    }
+
+    public void invalidate() {
+        cache.clear();
+    }
+
+    public static String report() {
+        long h = hits.sum();
+        long m = misses.sum();
+        StringBuilder sb = new StringBuilder(String.format("Locator cache: %d hits, %d misses, %d round trips saved", h, m, h));
+        latencies.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Locator, Latency> e) -> e.getValue().total.sum()).reversed())
+                .forEach(e -> sb.append(String.format("%n  %-70s %4d lookups, mean %d ms, max %d ms",
+                        e.getKey(), e.getValue().count.sum(), e.getValue().meanMillis(), e.getValue().maxMillis())));
+        return sb.toString();
+    }
+
+    private static final class Latency {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private volatile long max;
+
+        void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+            if (nanos > max) {
+                max = nanos;
+            }
+        }
+
+        long meanMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : Duration.ofNanos(total.sum() / n).toMillis();
+        }
+
+        long maxMillis() {
+            return Duration.ofNanos(max).toMillis();
+        }
+    }
+
+    private static final class Invalidator implements WebDriverListener {
+        private LocatorRegistry registry;
+
+        @Override
+        public void afterGet(WebDriver driver, String url) {
+            registry.invalidate();
+        }
+
+        @Override
+        public void afterClose(WebDriver driver) {
+            registry.invalidate();
+        }
+
+        @Override
+        public void afterQuit(WebDriver driver) {
+            registries.remove(registry.wd);
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            if (target instanceof WebDriver.Navigation || target instanceof WebDriver.TargetLocator) {
+                registry.invalidate();
+            }
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            if (e.getCause() instanceof StaleElementReferenceException) {
+                registry.invalidate();
+            }
+        }
+    }
+}
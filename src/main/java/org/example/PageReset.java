@@ -0,0 +1,101 @@
+package org.example;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Brings a browser session into the state a test expects before it runs.
+ * Every reset is timed under the name of the path it took, see {@link #report()}.
+ */
+public abstract class PageReset {
+
+    static final String RELOAD = "reload";
+
+    private static final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+    public final void prepare(WebDriver wd) {
+        long start = System.nanoTime();
+        String path = apply(wd);
+        timings.computeIfAbsent(path, k -> new Timing()).add(System.nanoTime() - start);
+    }
+
+    /**
+     * Resets the session and returns the name of the path that was taken.
+     */
+    protected abstract String apply(WebDriver wd);
+
+    /**
+     * Picks the reset for a test class: {@code -Dpage.reset=form|reload} for the whole run, otherwise
+     * the class's {@link ResetWith}, otherwise {@code preferred}.
+     */
+    public static PageReset choose(Class<?> testClass, PageReset preferred, ReloadReset reload) {
+        String forced = System.getProperty("page.reset");
+        Strategy strategy;
+        if (forced != null) {
+            strategy = Strategy.parse(forced);
+        } else if (testClass.isAnnotationPresent(ResetWith.class)) {
+            strategy = testClass.getAnnotation(ResetWith.class).value();
+        } else {
+            return preferred;
+        }
+        return strategy == Strategy.RELOAD ? reload : preferred;
+    }
+
+    public static String report() {
+        StringBuilder sb = new StringBuilder("Page reset timings:");
+        Map<String, Timing> sorted = new TreeMap<>(timings);
+        sorted.forEach((path, timing) -> sb.append(String.format("%n  %-14s %4d resets, mean %d ms, total %d ms",
+                path, timing.count(), timing.meanMillis(), Duration.ofNanos(timing.total.sum()).toMillis())));
+        // fallbacks time their reload under RELOAD too, so a run with form resets has both sides
+        Timing reload = timings.get(RELOAD);
+        Timing form = timings.get(FormReset.FORM);
+        if (reload != null && form != null) {
+            long saved = form.count() * (reload.mean() - form.mean());
+            sb.append(String.format("%n  saved by form reset: %d ms against a %d ms reload", Duration.ofNanos(saved).toMillis(),
+                    reload.meanMillis()));
+        }
+        return sb.toString();
+    }
+
+    public enum Strategy {
+        FORM, RELOAD;
+
+        static Strategy parse(String name) {
+            for (Strategy strategy : values()) {
+                if (strategy.name().equalsIgnoreCase(name.trim())) {
+                    return strategy;
+                }
+            }
+            throw new IllegalArgumentException("Unknown page.reset '" + name + "', expected one of " + Arrays.toString(values()));
+        }
+    }
+
+    private static final class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+
+        void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long mean() {
+            long n = count.sum();
+            return n == 0 ? 0 : total.sum() / n;
+        }
+
+        long meanMillis() {
+            return Duration.ofNanos(mean()).toMillis();
+        }
+    }
+}
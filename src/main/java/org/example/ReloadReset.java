@@ -0,0 +1,30 @@
+package org.example;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.function.Consumer;
+
+/**
+ * Navigates to the page again and replays the steps that open the tested view.
+ */
+public class ReloadReset extends PageReset {
+
+    private final String url;
+    private final Consumer<WebDriver> afterLoad;
+
+    public ReloadReset(String url, Consumer<WebDriver> afterLoad) {
+        this.url = url;
+        this.afterLoad = afterLoad;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    @Override
+    protected String apply(WebDriver wd) {
+        wd.get(url);
+        afterLoad.accept(wd);
+        return RELOAD;
+    }
+}
@@ -0,0 +1,156 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates sessions on remote WebDriver endpoints instead of a local Chrome, configured with
+ * {@code -Ddriver.remote=http://host1:4444,http://host2:4444} or, to try it on one machine,
+ * {@code -Dgrid.local.nodes=N -Dgrid.jar=selenium-server.jar} (see {@link LocalGrid}).
+ * Every node takes up to {@code driver.remote.sessions} (default 1) sessions.
+ * <p>
+ * Test classes and parameter rows are sharded dynamically: each one takes whichever pooled
+ * session is free, and with the suite's longest-first ordering the load spreads by test duration
+ * on its own. Nodes themselves are not weighted by test duration, which is only recorded per test:
+ * new sessions go to the node with the least expected work, its open sessions times its measured
+ * mean command latency, so slower nodes get fewer.
+ * A node that fails to start a session is skipped for a while. Nodes on other machines need
+ * {@code fixtures.host} set (see {@link FixtureServer}) or the live sites.
+ */
+public class RemoteDispatcher implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(RemoteDispatcher.class);
+    private static final long NODE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final int sessionsPerNode;
+    private final AutoCloseable owned;
+
+    public RemoteDispatcher(List<URL> urls, int sessionsPerNode) {
+        this(urls, sessionsPerNode, null);
+    }
+
+    private RemoteDispatcher(List<URL> urls, int sessionsPerNode, AutoCloseable owned) {
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("No remote nodes given");
+        }
+        urls.forEach(url -> nodes.add(new Node(url)));
+        this.sessionsPerNode = Math.max(1, sessionsPerNode);
+        this.owned = owned;
+    }
+
+    /**
+     * Returns the dispatcher configured through system properties, or {@code null} to run local browsers.
+     */
+    public static RemoteDispatcher fromSystemProperties() {
+        int sessions = Integer.getInteger("driver.remote.sessions", 1);
+        String remote = System.getProperty("driver.remote", "").trim();
+        if (!remote.isEmpty()) {
+            return new RemoteDispatcher(Arrays.stream(remote.split(",")).map(String::trim).map(RemoteDispatcher::url).toList(), sessions);
+        }
+        int localNodes = Integer.getInteger("grid.local.nodes", 0);
+        if (localNodes > 0) {
+            LocalGrid grid = LocalGrid.start(localNodes, Path.of(System.getProperty("grid.jar", "selenium-server.jar")),
+                    Integer.getInteger("grid.local.port", LocalGrid.DEFAULT_PORT), sessions);
+            return new RemoteDispatcher(grid.urls(), sessions, grid);
+        }
+        return null;
+    }
+
+    public int capacity() {
+        return nodes.size() * sessionsPerNode;
+    }
+
+    public WebDriver createWebDriver(BrowserProfile profile) {
+        List<String> failures = new ArrayList<>();
+        for (Node node : candidates()) {
+            node.sessions.incrementAndGet();
+            try {
+                WebDriver webDriver = profile.startRemote(node.url);
+                webDriver.manage().timeouts().scriptTimeout(WaitEngine.MAX_WAIT.plusSeconds(5));
+                logger.debug("Started session on {} ({} open there)", node.name, node.sessions.get());
+                return LocatorRegistry.attach(webDriver, new CommandMetrics(node.name), new CommandTrace(), new WebDriverListener() {
+                    @Override
+                    public void afterQuit(WebDriver driver) {
+                        node.sessions.decrementAndGet();
+                    }
+                });
+            } catch (WebDriverException e) {
+                node.sessions.decrementAndGet();
+                node.failedAt = System.nanoTime();
+                failures.add(node.name + ": " + e.getMessage().lines().findFirst().orElse(""));
+                logger.warn("Node {} could not start a session, skipping it for {} s", node.name,
+                        TimeUnit.NANOSECONDS.toSeconds(NODE_BACKOFF_NANOS));
+            }
+        }
+        throw new SessionNotCreatedException("No remote node could start a session: " + failures);
+    }
+
+    /**
+     * Nodes in the order to try them: healthy nodes with a free slot by expected work, then the rest.
+     */
+    private List<Node> candidates() {
+        double unknown = nodes.stream().mapToDouble(node -> RunMetrics.nodeMeanNanos(node.name)).filter(mean -> mean > 0).min().orElse(1);
+        long now = System.nanoTime();
+        List<Node> ordered = new ArrayList<>(nodes);
+        ordered.sort(Comparator.<Node, Boolean>comparing(node -> node.failedAt != 0 && now - node.failedAt < NODE_BACKOFF_NANOS)
+                .thenComparing(node -> node.sessions.get() >= sessionsPerNode)
+                .thenComparingDouble(node -> node.load(unknown))
+                .thenComparingInt(node -> node.sessions.get()));
+        return ordered;
+    }
+
+    /**
+     * Stops the local nodes this dispatcher started; remote nodes are left alone.
+     */
+    @Override
+    public void close() {
+        if (owned == null) {
+            return;
+        }
+        try {
+            owned.close();
+        } catch (Exception e) {
+            logger.warn("Failed to stop local nodes: {}", e.getMessage());
+        }
+    }
+
+    private static URL url(String spec) {
+        try {
+            return new URL(spec);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid remote node " + spec, e);
+        }
+    }
+
+    private static final class Node {
+        private final URL url;
+        private final String name;
+        private final AtomicInteger sessions = new AtomicInteger();
+        private volatile long failedAt;
+
+        private Node(URL url) {
+            this.url = url;
+            this.name = url.getHost() + ":" + url.getPort();
+        }
+
+        private double load(double unknownMean) {
+            double mean = RunMetrics.nodeMeanNanos(name);
+            return (sessions.get() + 1) * (mean > 0 ? mean : unknownMean);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.example;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects WebDriver command latencies and test phase timings for one run and exports them as
+ * JSON, CSV and Prometheus text into {@code metrics.dir} (default {@code target/metrics}).
+ * With {@code metrics.port} set, the Prometheus text is also served on {@code /metrics} on the loopback interface.
+ */
+public class RunMetrics {
+
+    private static final Logger logger = LogManager.getLogger(RunMetrics.class);
+    private static final Path DIR = Path.of(System.getProperty("metrics.dir", "target/metrics"));
+
+    private static final Map<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> locators = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, LatencyHistogram>> tests = new ConcurrentHashMap<>();
+    private static final Map<String, NodeStats> nodes = new ConcurrentHashMap<>();
+    private static volatile HttpServer endpoint;
+
+    public static void recordCommand(String test, String node, String command, String locator, long nanos) {
+        commands.computeIfAbsent(command, k -> new LatencyHistogram()).record(nanos);
+        if (node != null) {
+            NodeStats stats = nodes.computeIfAbsent(node, k -> new NodeStats());
+            stats.commands.record(nanos);
+            stats.tests.add(test);
+        }
+        if (locator != null) {
+            locators.computeIfAbsent(locator, k -> new LatencyHistogram()).record(nanos);
+        }
+        phases(test).computeIfAbsent("commands", k -> new LatencyHistogram()).record(nanos);
+    }
+
+    public static void recordPhase(String test, String phase, long nanos) {
+        phases(test).computeIfAbsent(phase, k -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Mean command latency measured on a remote node so far, or 0 when nothing ran there yet.
+     */
+    public static double nodeMeanNanos(String node) {
+        NodeStats stats = nodes.get(node);
+        return stats == null ? 0 : stats.commands.meanNanos();
+    }
+
+    private static Map<String, LatencyHistogram> phases(String test) {
+        return tests.computeIfAbsent(test, k -> new ConcurrentHashMap<>());
+    }
+
+    public static synchronized void startEndpoint() {
+        Integer port = Integer.getInteger("metrics.port");
+        if (port == null || endpoint != null) {
+            return;
+        }
+        try {
+            endpoint = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        endpoint.createContext("/metrics", exchange -> {
+            byte[] body = prometheus().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        endpoint.start();
+        logger.info("Metrics endpoint on http://localhost:{}/metrics", port);
+    }
+
+    public static void export() {
+        try {
+            Files.createDirectories(DIR);
+            Files.writeString(DIR.resolve("metrics.json"), new Json().toJson(json()));
+            Files.writeString(DIR.resolve("commands.csv"), csv());
+            Files.writeString(DIR.resolve("metrics.prom"), prometheus());
+            new TreeMap<>(nodes).forEach((node, stats) -> {
+                LatencyHistogram.Snapshot s = stats.commands.snapshot();
+                logger.info("Node {}: {} tests, {} commands, {} ms in commands, p95 {} ms", node, stats.tests.size(), s.count(),
+                        Math.round(millis(s.totalNanos())), Math.round(millis(s.p95Nanos())));
+            });
+            logger.info("Run metrics written to {}", DIR.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write run metrics: {}", e.getMessage());
+        }
+    }
+
+    static Map<String, Object> json() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("commands", summaries(commands));
+        root.put("locators", summaries(locators));
+        Map<String, Object> perTest = new TreeMap<>();
+        tests.forEach((test, phases) -> perTest.put(test, summaries(phases)));
+        root.put("tests", perTest);
+        if (!nodes.isEmpty()) {
+            Map<String, Object> perNode = new TreeMap<>();
+            nodes.forEach((node, stats) -> {
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("tests", new TreeSet<>(stats.tests));
+                summary.put("commands", summaries(Map.of("all", stats.commands)).get("all"));
+                perNode.put(node, summary);
+            });
+            root.put("nodes", perNode);
+        }
+        return root;
+    }
+
+    static String csv() {
+        StringBuilder sb = new StringBuilder("command,count,total_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+        new TreeMap<>(commands).forEach((command, histogram) -> {
+            LatencyHistogram.Snapshot s = histogram.snapshot();
+            sb.append(String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n", command, s.count(),
+                    millis(s.totalNanos()), millis(s.p50Nanos()), millis(s.p95Nanos()), millis(s.p99Nanos()), millis(s.maxNanos())));
+        });
+        return sb.toString();
+    }
+
+    static String prometheus() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# TYPE webdriver_command_seconds summary\n");
+        new TreeMap<>(commands).forEach((command, histogram) ->
+                summary(sb, "webdriver_command_seconds", "command=\"" + command + "\"", histogram.snapshot()));
+        sb.append("# TYPE test_phase_seconds summary\n");
+        new TreeMap<>(tests).forEach((test, phases) -> new TreeMap<>(phases).forEach((phase, histogram) ->
+                summary(sb, "test_phase_seconds", "test=\"" + escape(test) + "\",phase=\"" + phase + "\"", histogram.snapshot())));
+        if (!nodes.isEmpty()) {
+            sb.append("# TYPE webdriver_node_command_seconds summary\n");
+            new TreeMap<>(nodes).forEach((node, stats) ->
+                    summary(sb, "webdriver_node_command_seconds", "node=\"" + escape(node) + "\"", stats.commands.snapshot()));
+        }
+        return sb.toString();
+    }
+
+    private static void summary(StringBuilder sb, String name, String labels, LatencyHistogram.Snapshot s) {
+        sb.append(String.format(Locale.ROOT, "%s{%s,quantile=\"0.5\"} %.6f%n", name, labels, seconds(s.p50Nanos())));
+        sb.append(String.format(Locale.ROOT, "%s{%s,quantile=\"0.95\"} %.6f%n", name, labels, seconds(s.p95Nanos())));
+        sb.append(String.format(Locale.ROOT, "%s{%s,quantile=\"0.99\"} %.6f%n", name, labels, seconds(s.p99Nanos())));
+        sb.append(String.format(Locale.ROOT, "%s_sum{%s} %.6f%n", name, labels, seconds(s.totalNanos())));
+        sb.append(String.format(Locale.ROOT, "%s_count{%s} %d%n", name, labels, s.count()));
+    }
+
+    private static Map<String, Object> summaries(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> result = new TreeMap<>();
+        histograms.forEach((name, histogram) -> {
+            LatencyHistogram.Snapshot s = histogram.snapshot();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", s.count());
+            summary.put("totalMs", millis(s.totalNanos()));
+            summary.put("p50Ms", millis(s.p50Nanos()));
+            summary.put("p95Ms", millis(s.p95Nanos()));
+            summary.put("p99Ms", millis(s.p99Nanos()));
+            summary.put("maxMs", millis(s.maxNanos()));
+            result.put(name, summary);
+        });
+        return result;
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static final class NodeStats {
+        private final LatencyHistogram commands = new LatencyHistogram();
+        private final Set<String> tests = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,240 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Quotes;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Browser-free WebDriver over a recorded DOM snapshot, for tests that only inspect page structure.
+ * Snapshots are rendered {@code outerHTML} files in {@code dom.dir} (default {@code src/test/resources/dom}),
+ * recorded from the live page by running the browser tests with {@code -Ddom.record=true}; until a
+ * snapshot has been recorded, tests should stay on the browser (see {@link #exists(String)}).
+ * <p>
+ * Lookups are XPath 1.0 over the parsed DOM. Scripts never run, so anything that depends on
+ * event handlers, layout or stylesheets needs the real browser. Only lookups, text, attributes and
+ * form state are answered; navigation, windows, frames and browser options throw
+ * {@link UnsupportedCommandException}.
+ */
+public class SnapshotDriver implements WebDriver {
+
+    private static final Logger logger = LogManager.getLogger(SnapshotDriver.class);
+    private static final Path DIR = Path.of(System.getProperty("dom.dir", "src/test/resources/dom"));
+    private static final boolean RECORD = Boolean.getBoolean("dom.record");
+    private static final String HANDLE = "snapshot";
+    private static final Pattern SIMPLE_CSS = Pattern.compile("^([\\w-]+|\\*)?(?:#([\\w-]+))?(?:\\[([\\w-]+)\\s*=\\s*['\"]?([^'\"]*)['\"]?])?$");
+
+    private static final Map<String, String> sources = new ConcurrentHashMap<>();
+    private static final Set<String> recorded = ConcurrentHashMap.newKeySet();
+
+    private final String name;
+    private final XPath xpath = XPathFactory.newInstance().newXPath();
+    private final String url;
+    private Document document;
+
+    private SnapshotDriver(String name) {
+        this.name = name;
+        this.url = "snapshot:" + name;
+        this.document = HtmlDom.parse(source(name));
+    }
+
+    /**
+     * Opens the named snapshot, decorated like a browser session so locator caching and command metrics apply.
+     */
+    public static WebDriver open(String name) {
+        return LocatorRegistry.attach(new SnapshotDriver(name), new CommandMetrics(), new CommandTrace());
+    }
+
+    /**
+     * Whether snapshot {@code name} has been recorded.
+     */
+    public static boolean exists(String name) {
+        return sources.containsKey(name) || Files.isRegularFile(DIR.resolve(name + ".html"));
+    }
+
+    /**
+     * Whether this run records snapshots ({@code -Ddom.record=true}) and {@code name} is still to be recorded.
+     */
+    public static boolean recording(String name) {
+        return RECORD && !recorded.contains(name);
+    }
+
+    /**
+     * Saves the current page of a browser session as snapshot {@code name}, once per run and only with {@code -Ddom.record=true}.
+     */
+    public static void record(WebDriver wd, String name) {
+        if (!RECORD || !recorded.add(name)) {
+            return;
+        }
+        String html = (String) ((JavascriptExecutor) wd).executeScript("return '<!DOCTYPE html>\\n' + document.documentElement.outerHTML;");
+        html = "<!-- recorded from " + wd.getCurrentUrl() + " at " + Instant.now() + " -->\n" + html;
+        try {
+            Files.createDirectories(DIR);
+            Files.writeString(DIR.resolve(name + ".html"), html);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sources.put(name, html);
+        logger.info("Recorded DOM snapshot {} from {}", name, wd.getCurrentUrl());
+    }
+
+    private static String source(String name) {
+        return sources.computeIfAbsent(name, n -> {
+            try {
+                return Files.readString(DIR.resolve(n + ".html"));
+            } catch (IOException e) {
+                throw new UncheckedIOException("No DOM snapshot " + n + " in " + DIR.toAbsolutePath(), e);
+            }
+        });
+    }
+
+    @Override
+    public void get(String url) {
+        throw new UnsupportedCommandException("Snapshot sessions do not navigate");
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return url;
+    }
+
+    @Override
+    public String getTitle() {
+        NodeList titles = document.getElementsByTagName("title");
+        return titles.getLength() == 0 ? "" : titles.item(0).getTextContent().trim();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return findElements(by, document);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return findElement(by, document);
+    }
+
+    WebElement findElement(By by, Node context) {
+        List<WebElement> found = findElements(by, context);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("No element in snapshot " + name + " for " + by);
+        }
+        return found.get(0);
+    }
+
+    List<WebElement> findElements(By by, Node context) {
+        String expression = toXpath(by);
+        NodeList nodes;
+        try {
+            nodes = (NodeList) xpath.evaluate(expression, context, XPathConstants.NODESET);
+        } catch (XPathExpressionException e) {
+            throw new InvalidSelectorException("Cannot evaluate " + by + " on snapshot " + name, e);
+        }
+        List<WebElement> elements = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i) instanceof Element element) {
+                elements.add(new SnapshotElement(this, element));
+            }
+        }
+        return elements;
+    }
+
+    private static String toXpath(By by) {
+        if (!(by instanceof By.Remotable remotable)) {
+            throw new InvalidSelectorException("Unsupported locator on snapshots: " + by);
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        switch (parameters.using()) {
+            case "xpath":
+                return value;
+            case "tag name":
+                return ".//" + value;
+            case "id", "name":
+                return ".//*[@" + parameters.using() + "=" + Quotes.escape(value) + "]";
+            case "css selector":
+                Matcher m = SIMPLE_CSS.matcher(value.replace("\\", "").trim());
+                if (!m.matches() || value.isBlank()) {
+                    break;
+                }
+                StringBuilder sb = new StringBuilder(".//").append(m.group(1) == null ? "*" : m.group(1));
+                if (m.group(2) != null) {
+                    sb.append("[@id='").append(m.group(2)).append("']");
+                }
+                if (m.group(3) != null) {
+                    sb.append("[@").append(m.group(3)).append("='").append(m.group(4)).append("']");
+                }
+                return sb.toString();
+            default:
+                break;
+        }
+        throw new InvalidSelectorException("Unsupported locator on snapshots: " + by);
+    }
+
+    @Override
+    public String getPageSource() {
+        return source(name);
+    }
+
+    @Override
+    public void close() {
+        quit();
+    }
+
+    @Override
+    public void quit() {
+        document = null;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of(HANDLE);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return HANDLE;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedCommandException("Snapshot sessions have one window and no frames");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedCommandException("Snapshot sessions do not navigate");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedCommandException("Snapshot sessions have no browser options");
+    }
+}
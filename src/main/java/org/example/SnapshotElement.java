@@ -0,0 +1,267 @@
+package org.example;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebElement;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Element of a {@link SnapshotDriver} page. Form state (values, checked radios, selected options)
+ * is kept in the DOM attributes; no events are fired and no layout exists, so visibility is only
+ * derived from markup ({@code hidden}, inline {@code display:none}, hidden inputs). Submitting,
+ * layout, styles and screenshots throw {@link UnsupportedCommandException}.
+ */
+class SnapshotElement implements WebElement {
+
+    private static final Set<String> BOOLEAN_ATTRIBUTES = Set.of("checked", "selected", "disabled", "readonly",
+            "required", "multiple", "hidden", "autofocus");
+    private static final Set<String> NEVER_DISPLAYED = Set.of("head", "script", "style", "title", "meta", "link", "template");
+
+    private final SnapshotDriver driver;
+    private final Element node;
+
+    SnapshotElement(SnapshotDriver driver, Element node) {
+        this.driver = driver;
+        this.node = node;
+    }
+
+    @Override
+    public void click() {
+        String tag = getTagName();
+        String type = node.getAttribute("type").toLowerCase(Locale.ROOT);
+        if (tag.equals("option")) {
+            Element select = enclosing("select");
+            if (select != null && !select.hasAttribute("multiple")) {
+                options(select).forEach(option -> option.removeAttribute("selected"));
+            }
+            node.setAttribute("selected", "");
+        } else if (tag.equals("input") && type.equals("radio")) {
+            Element scope = enclosing("form");
+            NodeList inputs = (scope != null ? scope : node.getOwnerDocument().getDocumentElement()).getElementsByTagName("input");
+            for (int i = 0; i < inputs.getLength(); i++) {
+                Element input = (Element) inputs.item(i);
+                if (input.getAttribute("type").equalsIgnoreCase("radio") && input.getAttribute("name").equals(node.getAttribute("name"))) {
+                    input.removeAttribute("checked");
+                }
+            }
+            node.setAttribute("checked", "");
+        } else if (tag.equals("input") && type.equals("checkbox")) {
+            if (node.hasAttribute("checked")) {
+                node.removeAttribute("checked");
+            } else {
+                node.setAttribute("checked", "");
+            }
+        }
+    }
+
+    @Override
+    public void submit() {
+        throw new UnsupportedCommandException("Snapshot pages are never submitted");
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        StringBuilder value = new StringBuilder(value());
+        for (CharSequence keys : keysToSend) {
+            value.append(keys);
+        }
+        node.setAttribute("value", value.toString());
+    }
+
+    @Override
+    public void clear() {
+        node.setAttribute("value", "");
+    }
+
+    @Override
+    public String getTagName() {
+        return node.getTagName();
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return node.hasAttribute(name) ? node.getAttribute(name) : null;
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return getAttribute(name);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        if (key.equals("value")) {
+            return value();
+        }
+        if (key.equals("checked") || key.equals("selected")) {
+            return isSelected() ? "true" : null;
+        }
+        if (BOOLEAN_ATTRIBUTES.contains(key)) {
+            return node.hasAttribute(key) ? "true" : null;
+        }
+        return getDomAttribute(key);
+    }
+
+    @Override
+    public boolean isSelected() {
+        String tag = getTagName();
+        if (tag.equals("option")) {
+            if (node.hasAttribute("selected")) {
+                return true;
+            }
+            Element select = enclosing("select");
+            if (select == null || select.hasAttribute("multiple")) {
+                return false;
+            }
+            List<Element> options = options(select);
+            return options.stream().noneMatch(o -> o.hasAttribute("selected")) && options.get(0) == node;
+        }
+        return node.hasAttribute("checked");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        for (Node n = node; n instanceof Element e; n = n.getParentNode()) {
+            if (e.hasAttribute("disabled")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String getText() {
+        return isDisplayed() ? text(node).replaceAll("\\s+", " ").trim() : "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return driver.findElements(by, node);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return driver.findElement(by, node);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        if (getTagName().equals("input") && node.getAttribute("type").equalsIgnoreCase("hidden")) {
+            return false;
+        }
+        for (Node n = node; n instanceof Element e; n = n.getParentNode()) {
+            String style = e.getAttribute("style").replace(" ", "").toLowerCase(Locale.ROOT);
+            if (NEVER_DISPLAYED.contains(e.getTagName()) || e.hasAttribute("hidden")
+                    || style.contains("display:none") || style.contains("visibility:hidden")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Point getLocation() {
+        throw new UnsupportedCommandException("Snapshot pages have no layout");
+    }
+
+    @Override
+    public Dimension getSize() {
+        throw new UnsupportedCommandException("Snapshot pages have no layout");
+    }
+
+    @Override
+    public Rectangle getRect() {
+        throw new UnsupportedCommandException("Snapshot pages have no layout");
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        throw new UnsupportedCommandException("Snapshot pages have no computed styles");
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedCommandException("Snapshot pages are not rendered");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SnapshotElement other && other.node == node;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(node);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotElement<" + getTagName() + ">";
+    }
+
+    private String value() {
+        String tag = getTagName();
+        if (tag.equals("select")) {
+            for (Element option : options(node)) {
+                if (new SnapshotElement(driver, option).isSelected()) {
+                    return optionValue(option);
+                }
+            }
+            return "";
+        }
+        if (tag.equals("option")) {
+            return optionValue(node);
+        }
+        if (tag.equals("textarea")) {
+            return node.hasAttribute("value") ? node.getAttribute("value") : node.getTextContent();
+        }
+        return node.getAttribute("value");
+    }
+
+    private static String optionValue(Element option) {
+        return option.hasAttribute("value") ? option.getAttribute("value") : option.getTextContent().trim();
+    }
+
+    private Element enclosing(String tag) {
+        for (Node n = node.getParentNode(); n instanceof Element e; n = n.getParentNode()) {
+            if (e.getTagName().equals(tag)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private static List<Element> options(Element select) {
+        NodeList list = select.getElementsByTagName("option");
+        Element[] options = new Element[list.getLength()];
+        for (int i = 0; i < options.length; i++) {
+            options[i] = (Element) list.item(i);
+        }
+        return List.of(options);
+    }
+
+    private static String text(Node node) {
+        if (node.getNodeType() == Node.TEXT_NODE) {
+            return node.getNodeValue();
+        }
+        if (node instanceof Element e && NEVER_DISPLAYED.contains(e.getTagName())) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            sb.append(text(child));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,181 @@
+package org.example;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Waits for elements inside the page with a MutationObserver, so a waiter wakes up on the
+ * DOM change that satisfies it instead of on the next polling tick.
+ * <p>
+ * Positive waits always use the ceiling timeout because they return as soon as the element
+ * shows up. Negative checks ("does not appear") only wait as long as the element has
+ * historically needed to appear, which is learned per locator.
+ */
+public class WaitEngine {
+
+    public static final Duration MAX_WAIT = Duration.ofMillis(Long.getLong("wait.maxMs", 5000));
+    private static final long MIN_WAIT_MS = Long.getLong("wait.minMs", 250);
+
+    private static final String SCRIPT = """
+            const [css, xpath, displayed, timeout] = arguments;
+            const done = arguments[arguments.length - 1];
+            const find = () => {
+                const el = css ? document.querySelector(css)
+                        : document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                if (!el || (displayed && (el.getClientRects().length === 0 || getComputedStyle(el).visibility === 'hidden'))) {
+                    return null;
+                }
+                return el;
+            };
+            const found = find();
+            if (found) {
+                done(found);
+                return;
+            }
+            let timer;
+            const observer = new MutationObserver(() => {
+                const el = find();
+                if (el) {
+                    observer.disconnect();
+                    clearTimeout(timer);
+                    done(el);
+                }
+            });
+            observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+            timer = setTimeout(() => {
+                observer.disconnect();
+                done(find());
+            }, timeout);
+            """;
+
+    private static final Map<String, History> histories = new ConcurrentHashMap<>();
+    private static final ThreadLocal<long[]> waitedOnThread = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final WebDriver wd;
+
+    private WaitEngine(WebDriver wd) {
+        this.wd = wd;
+    }
+
+    public static WaitEngine of(WebDriver wd) {
+        return new WaitEngine(wd);
+    }
+
+    public WebElement await(String xpath) {
+        return await(Locator.of(xpath));
+    }
+
+    public WebElement await(Locator locator) {
+        WebElement element = waitFor(locator, false, MAX_WAIT.toMillis());
+        if (element == null) {
+            throw new NoSuchElementException("Element " + locator + " did not appear within " + MAX_WAIT.toMillis() + " ms");
+        }
+        return element;
+    }
+
+    public WebElement awaitDisplayed(String xpath) {
+        Locator locator = Locator.of(xpath);
+        WebElement element = waitFor(locator, true, MAX_WAIT.toMillis());
+        if (element == null) {
+            throw new TimeoutException("Element " + locator + " was not displayed within " + MAX_WAIT.toMillis() + " ms");
+        }
+        return element;
+    }
+
+    public boolean isDisplayed(String xpath) {
+        return waitFor(Locator.of(xpath), true, MAX_WAIT.toMillis()) != null;
+    }
+
+    /**
+     * Negative check: waits only as long as this locator has historically needed to become visible.
+     */
+    public boolean becomesDisplayed(String xpath) {
+        Locator locator = Locator.of(xpath);
+        History history = histories.get(key(locator, true));
+        long timeout = history == null ? MAX_WAIT.toMillis() : history.timeoutMillis();
+        return waitFor(locator, true, timeout) != null;
+    }
+
+    /**
+     * Returns the time the calling thread spent waiting since the last call, as {waits, nanos}, and resets it.
+     */
+    public static long[] drainWaitedOnThread() {
+        long[] waited = waitedOnThread.get();
+        long[] copy = waited.clone();
+        waited[0] = 0;
+        waited[1] = 0;
+        return copy;
+    }
+
+    private WebElement waitFor(Locator locator, boolean displayed, long timeoutMillis) {
+        if (!(wd instanceof JavascriptExecutor)) {
+            return findStatic(locator, displayed);
+        }
+        long start = System.nanoTime();
+        Object result = ((JavascriptExecutor) wd).executeAsyncScript(SCRIPT, locator.css(), locator.xpath(), displayed, timeoutMillis);
+        long elapsed = System.nanoTime() - start;
+        long[] waited = waitedOnThread.get();
+        waited[0]++;
+        waited[1] += elapsed;
+        if (result instanceof WebElement element) {
+            histories.computeIfAbsent(key(locator, displayed), k -> new History()).record(elapsed);
+            return element;
+        }
+        return null;
+    }
+
+    /**
+     * Sessions without script support (DOM snapshots) never change on their own, so one lookup decides.
+     */
+    private WebElement findStatic(Locator locator, boolean displayed) {
+        List<WebElement> found = wd.findElements(By.xpath(locator.xpath()));
+        if (found.isEmpty() || displayed && !found.get(0).isDisplayed()) {
+            return null;
+        }
+        return found.get(0);
+    }
+
+    private static String key(Locator locator, boolean displayed) {
+        return (displayed ? "displayed:" : "present:") + locator.xpath();
+    }
+
+    /**
+     * Exponentially weighted mean and variance of how long an element took to appear.
+     */
+    private static final class History {
+        private static final double ALPHA = 0.2;
+        private static final int WARMUP = 3;
+
+        private int samples;
+        private double mean;
+        private double variance;
+
+        synchronized void record(long nanos) {
+            double millis = nanos / 1_000_000.0;
+            if (samples++ == 0) {
+                mean = millis;
+                return;
+            }
+            double diff = millis - mean;
+            mean += ALPHA * diff;
+            variance = (1 - ALPHA) * (variance + ALPHA * diff * diff);
+        }
+
+        synchronized long timeoutMillis() {
+            if (samples < WARMUP) {
+                return MAX_WAIT.toMillis();
+            }
+            long learned = (long) Math.ceil(mean + 4 * Math.sqrt(variance));
+            return Math.max(MIN_WAIT_MS, Math.min(MAX_WAIT.toMillis(), learned));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the windows of one session. New windows are found by diffing the handles against the
+ * tracked set, never by position. Waits wake up on CDP target events where the session offers
+ * them and poll otherwise. URLs of several windows are read and windows are closed through CDP
+ * in one go without switching the session away from the main window.
+ * <p>
+ * A session is used by one thread at a time (see {@link DriverPool}), so only the event
+ * signalling is synchronized.
+ */
+public class WindowManager {
+
+    private static final Logger logger = LogManager.getLogger(WindowManager.class);
+    private static final Map<WebDriver, WindowManager> managers = new ConcurrentHashMap<>();
+    private static final long POLL_MS = 25;
+    private static final long EVENT_RECHECK_MS = 250;
+
+    private final WebDriver wd;
+    private final String main;
+    private final Set<String> known = new HashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final boolean events;
+
+    private WindowManager(WebDriver wd) {
+        this.wd = wd;
+        this.main = wd.getWindowHandle();
+        this.known.addAll(wd.getWindowHandles());
+        this.events = listen();
+    }
+
+    public static WindowManager of(WebDriver wd) {
+        return managers.computeIfAbsent(wd, WindowManager::new);
+    }
+
+    /**
+     * Drops the state of a session that is being quit.
+     */
+    public static void forget(WebDriver wd) {
+        managers.remove(wd);
+    }
+
+    public String main() {
+        return main;
+    }
+
+    /**
+     * Remembers the currently open windows, so that the next {@link #awaitNew(int)} only reports windows opened after this call.
+     */
+    public void track() {
+        known.clear();
+        known.addAll(wd.getWindowHandles());
+    }
+
+    /**
+     * Waits until {@code count} windows that are not tracked yet are open and starts tracking them.
+     */
+    public List<String> awaitNew(int count) {
+        long deadline = System.nanoTime() + WaitEngine.MAX_WAIT.toNanos();
+        while (true) {
+            Set<String> fresh = new LinkedHashSet<>(wd.getWindowHandles());
+            fresh.removeAll(known);
+            if (fresh.size() >= count) {
+                known.addAll(fresh);
+                return new ArrayList<>(fresh);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException(count + " new window(s) expected, " + fresh.size() + " opened within "
+                        + WaitEngine.MAX_WAIT.toMillis() + " ms");
+            }
+            pause(deadline);
+        }
+    }
+
+    /**
+     * Clicks all links in one script call and returns the windows they opened with their URLs.
+     * The session stays on the current window.
+     */
+    public Map<String, String> openAll(List<WebElement> links) {
+        track();
+        ((JavascriptExecutor) wd).executeScript("for (const link of arguments[0]) { link.click(); }", links);
+        return urls(awaitNew(links.size()));
+    }
+
+    /**
+     * Returns the URL of every given window once it has left {@code about:blank}.
+     */
+    public Map<String, String> urls(Collection<String> handles) {
+        long deadline = System.nanoTime() + WaitEngine.MAX_WAIT.toNanos();
+        while (true) {
+            Map<String, String> urls = readUrls(handles);
+            if (urls.values().stream().noneMatch(url -> url.isEmpty() || url.equals("about:blank")) || System.nanoTime() > deadline) {
+                return urls;
+            }
+            pause(deadline);
+        }
+    }
+
+    /**
+     * Closes the given windows and makes sure the session is on the main window afterwards.
+     */
+    public void closeAll(Collection<String> handles) {
+        List<String> targets = new ArrayList<>(handles);
+        targets.remove(main);
+        if (targets.isEmpty()) {
+            return;
+        }
+        if (wd instanceof HasCdp cdp) {
+            for (String handle : targets) {
+                cdp.executeCdpCommand("Target.closeTarget", Map.of("targetId", handle));
+            }
+        } else {
+            for (String handle : targets) {
+                wd.switchTo().window(handle).close();
+            }
+            wd.switchTo().window(main);
+        }
+        targets.forEach(known::remove);
+        try {
+            if (!wd.getWindowHandle().equals(main)) {
+                wd.switchTo().window(main);
+            }
+        } catch (NoSuchWindowException e) {
+            wd.switchTo().window(main);
+        }
+    }
+
+    public void closeOthers() {
+        closeAll(wd.getWindowHandles());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> readUrls(Collection<String> handles) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        if (wd instanceof HasCdp cdp) {
+            // Chrome window handles are CDP target ids, so one call answers for every window
+            List<Map<String, Object>> targets = (List<Map<String, Object>>) cdp.executeCdpCommand("Target.getTargets", Map.of()).get("targetInfos");
+            Map<Object, Object> byId = new LinkedHashMap<>();
+            targets.forEach(target -> byId.put(target.get("targetId"), target.get("url")));
+            handles.forEach(handle -> urls.put(handle, String.valueOf(byId.getOrDefault(handle, ""))));
+            return urls;
+        }
+        String current = wd.getWindowHandle();
+        for (String handle : handles) {
+            urls.put(handle, wd.switchTo().window(handle).getCurrentUrl());
+        }
+        wd.switchTo().window(current);
+        return urls;
+    }
+
+    private boolean listen() {
+        if (!(wd instanceof HasDevTools hasDevTools)) {
+            return false;
+        }
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(new Event<>("Target.targetCreated", input -> input.read(Json.MAP_TYPE)), target -> signal());
+            devTools.addListener(new Event<>("Target.targetInfoChanged", input -> input.read(Json.MAP_TYPE)), target -> signal());
+            devTools.send(new Command<Void>("Target.setDiscoverTargets", Map.of("discover", true)));
+            return true;
+        } catch (WebDriverException | IllegalStateException e) {
+            logger.debug("No CDP target events for this session, polling for windows: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sleeps until the next target event, or one polling interval without events. An event can
+     * arrive before the driver lists the new handle, so event waits are capped and re-checked.
+     */
+    private void pause(long deadline) {
+        long cap = TimeUnit.MILLISECONDS.toNanos(events ? EVENT_RECHECK_MS : POLL_MS);
+        long nanos = Math.min(cap, Math.max(0, deadline - System.nanoTime()));
+        lock.lock();
+        try {
+            changed.awaitNanos(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
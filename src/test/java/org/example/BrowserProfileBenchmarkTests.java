@@ -0,0 +1,66 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Starts {@code benchmark.rounds} sessions per profile and logs the mean startup and first
+ * contentful paint. Only runs with {@code -Dbenchmarks.run=true}; {@code @Isolated} would
+ * otherwise hold up the parallel suite around it.
+ */
+@Isolated
+@EnabledIfSystemProperty(named = "benchmarks.run", matches = "true")
+public class BrowserProfileBenchmarkTests {
+    private static final Logger logger = LogManager.getLogger(BrowserProfileBenchmarkTests.class);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 5);
+
+    @Test
+    public void startupAndFirstPaintPerProfile() {
+        for (BrowserProfile profile : profiles()) {
+            long startup = 0;
+            double firstPaint = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                long start = System.nanoTime();
+                WebDriver wd = Driver.createWebDriver(profile);
+                startup += System.nanoTime() - start;
+                try {
+                    wd.get(FixtureTasks.REGISTRATION_URL);
+                    Object paint = ((JavascriptExecutor) wd).executeScript(
+                            "const e = performance.getEntriesByName('first-contentful-paint')[0]; return e ? e.startTime : null;");
+                    assertNotNull(paint, "No first-contentful-paint entry for profile " + profile);
+                    firstPaint += ((Number) paint).doubleValue();
+                } finally {
+                    wd.quit();
+                }
+            }
+            logger.info("Profile {}: session startup mean {} ms, first contentful paint mean {} ms", profile,
+                    Duration.ofNanos(startup / ROUNDS).toMillis(), Math.round(firstPaint / ROUNDS));
+        }
+    }
+
+    /**
+     * Profiles from {@code benchmark.profiles}; HEADED is left out where no display is available.
+     */
+    private static BrowserProfile[] profiles() {
+        return Arrays.stream(System.getProperty("benchmark.profiles", "headed,headless,fast").split(","))
+                .map(BrowserProfile::parse)
+                .filter(profile -> {
+                    if (profile == BrowserProfile.HEADED && !BrowserProfile.displayAvailable()) {
+                        logger.warn("Skipping the headed profile, no display available");
+                        return false;
+                    }
+                    return true;
+                })
+                .toArray(BrowserProfile[]::new);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Streams parameterized test cases line by line from a CSV or JSONL classpath resource.
+ * CSV files start with a header row; JSONL lines are JSON arrays, or objects whose values
+ * are taken in {@link #columns()} order. Lines starting with {@code #} are comments.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ArgumentsSource(CaseFileProvider.class)
+public @interface CaseFile {
+
+    String value();
+
+    String[] columns() default {};
+}
@@ -0,0 +1,108 @@
+package org.example;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Reads {@link CaseFile} resources lazily, so only the case being executed is held in memory.
+ */
+public class CaseFileProvider implements ArgumentsProvider, AnnotationConsumer<CaseFile> {
+
+    private static final Json JSON = new Json();
+
+    private String resource;
+    private String[] columns;
+
+    @Override
+    public void accept(CaseFile caseFile) {
+        this.resource = caseFile.value();
+        this.columns = caseFile.columns();
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        InputStream in = context.getRequiredTestClass().getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IllegalArgumentException("Case file not found on the classpath: " + resource);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        boolean csv = resource.endsWith(".csv");
+        Stream<String> lines = reader.lines().filter(CaseFileProvider::isData);
+        if (csv) {
+            lines = lines.skip(1);
+        }
+        return lines
+                .map(line -> csv ? Arguments.of(parseCsv(line).toArray()) : parseJson(line))
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Blank lines and lines whose first non-whitespace character is {@code #} are not data; a
+     * first CSV field starting with {@code #} has to be quoted.
+     */
+    static boolean isData(String line) {
+        String stripped = line.stripLeading();
+        return !stripped.isEmpty() && stripped.charAt(0) != '#';
+    }
+
+    private Arguments parseJson(String line) {
+        Object value = JSON.toType(line, Object.class);
+        if (value instanceof List<?> list) {
+            return Arguments.of(list.toArray());
+        }
+        Map<?, ?> map = (Map<?, ?>) value;
+        Object[] args = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            args[i] = map.get(columns[i]);
+        }
+        return Arguments.of(args);
+    }
+
+    static List<String> parseCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CaseFileProviderTests {
+
+    @Test
+    public void quotedFieldsKeepCommasAndEscapedQuotes() {
+        assertEquals(List.of("a,b", "say \"hi\"", "", "plain"), CaseFileProvider.parseCsv("\"a,b\",\"say \"\"hi\"\"\",,plain"));
+        assertEquals(List.of("@#$!%^&*()?/.,<>", "Surname"), CaseFileProvider.parseCsv("\"@#$!%^&*()?/.,<>\",Surname"));
+        assertEquals(List.of("", ""), CaseFileProvider.parseCsv(","));
+    }
+
+    @Test
+    public void onlyLeadingHashesMarkComments() {
+        assertFalse(CaseFileProvider.isData("# firstName,lastName"));
+        assertFalse(CaseFileProvider.isData("   # indented note"));
+        assertFalse(CaseFileProvider.isData("  "));
+        assertTrue(CaseFileProvider.isData("\"#hashtag\",Surname"));
+        assertTrue(CaseFileProvider.isData("Name,#hashtag"));
+        assertEquals(List.of("#hashtag", "Surname"), CaseFileProvider.parseCsv("\"#hashtag\",Surname"));
+    }
+}
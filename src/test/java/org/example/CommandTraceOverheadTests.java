@@ -0,0 +1,65 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures what {@link CommandTrace} adds to a command, decorator dispatch included: the same
+ * session is driven through a decorator with the metrics listener only, as before the trace existed,
+ * and through one with the trace added, as sessions are created now. Logged rather than asserted,
+ * like the other timings taken while the suite runs.
+ */
+@Isolated
+public class CommandTraceOverheadTests {
+    private static final Logger logger = LogManager.getLogger(CommandTraceOverheadTests.class);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 20);
+    private static final int COMMANDS = 50;
+
+    private BrowserProfile.Session session;
+
+    @BeforeEach
+    public void startSession() {
+        session = BrowserProfile.current().start();
+    }
+
+    @AfterEach
+    public void quitSession() {
+        session.driver().quit();
+        BrowserProfile.releaseUserDataDir(session.userDataDir());
+    }
+
+    @Test
+    public void traceCostPerCommand() {
+        WebDriver metrics = LocatorRegistry.attach(session.driver(), new CommandMetrics());
+        WebDriver traced = LocatorRegistry.attach(session.driver(), new CommandMetrics(), new CommandTrace());
+        metrics.get(FixtureTasks.REGISTRATION_URL);
+        long without = 0;
+        long with = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            CommandTrace.reset();
+            without += run(metrics);
+            with += run(traced);
+        }
+        double commands = (double) ROUNDS * COMMANDS;
+        logger.info(String.format(Locale.ROOT, "Command without trace %.1f us, with trace %.1f us (%+.2f%%)",
+                without / commands / 1e3, with / commands / 1e3, 100.0 * (with - without) / without));
+    }
+
+    private static long run(WebDriver wd) {
+        long start = System.nanoTime();
+        for (int i = 0; i < COMMANDS; i++) {
+            assertEquals("", wd.findElement(By.xpath(RegistrationPopup.FIRST_NAME)).getAttribute("value"));
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandTraceTests {
+    private static final int SIZE = Integer.getInteger("artifacts.trace", 50);
+
+    private final CommandTrace trace = new CommandTrace();
+    private final WebDriver driver = stub(WebDriver.class);
+    private final WebElement element = stub(WebElement.class);
+
+    @BeforeEach
+    public void startTrace() {
+        CommandTrace.reset();
+    }
+
+    @Test
+    public void ringKeepsTheLastCommandsAfterWrappingAround() throws Exception {
+        Method get = WebDriver.class.getMethod("get", String.class);
+        for (int i = 0; i < SIZE + 7; i++) {
+            trace.afterAnyCall(driver, get, new Object[]{"http://fixture/" + i}, null);
+        }
+
+        List<String> lines = CommandTrace.lines();
+        assertEquals(SIZE + 1, lines.size());
+        assertEquals("... 7 earlier commands", lines.get(0));
+        assertTrue(lines.get(1).endsWith(" WebDriver.get(http://fixture/7)"), lines.get(1));
+        assertTrue(lines.get(SIZE).endsWith(" WebDriver.get(http://fixture/" + (SIZE + 6) + ")"), lines.get(SIZE));
+        assertSame(driver, CommandTrace.driver());
+    }
+
+    @Test
+    public void linesShowArgumentsAndErrors() throws Exception {
+        trace.afterAnyCall(element, WebElement.class.getMethod("sendKeys", CharSequence[].class),
+                new Object[]{new CharSequence[]{"Ol", "ga"}}, null);
+        trace.afterAnyCall(driver, WebDriver.class.getMethod("get", String.class), new Object[]{"x".repeat(200)}, null);
+        trace.onError(element, WebElement.class.getMethod("click"), null,
+                new InvocationTargetException(new NoSuchElementException("no such element\nmore details")));
+        trace.afterAnyCall(driver, WebDriver.class.getMethod("manage"), null, null);
+
+        List<String> lines = CommandTrace.lines();
+        assertEquals(3, lines.size(), "manage() only hands out an accessor and is not traced");
+        assertTrue(lines.get(0).endsWith(" WebElement.sendKeys(Olga)"), lines.get(0));
+        assertTrue(lines.get(1).endsWith(" WebDriver.get(" + "x".repeat(117) + "...)"), lines.get(1));
+        assertTrue(lines.get(2).endsWith(" WebElement.click -> NoSuchElementException: no such element"), lines.get(2));
+    }
+
+    @Test
+    public void resetStartsAnEmptyTrace() throws Exception {
+        trace.afterAnyCall(driver, WebDriver.class.getMethod("getTitle"), null, null);
+        CommandTrace.reset();
+
+        assertEquals(List.of(), CommandTrace.lines());
+        assertNull(CommandTrace.driver());
+        assertEquals(0, CommandTrace.overheadNanos());
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+}
@@ -0,0 +1,312 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.Select;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@ResetWith(PageReset.Strategy.FORM)
+@ExtendWith({TimingExtension.class, WaitTimeExtension.class, FailureLogExtension.class, FailureArtifactExtension.class, RetryExtension.class})
+public class CreateAccountTests {
+    private static final String URL = FixtureServer.url("https://www.facebook.com/");
+    private static final String SNAPSHOT = "registration";
+
+    private static final Logger logger = LogManager.getLogger(CreateAccountTests.class);
+    private WebDriver wd;
+    private RegistrationPopup popup;
+    private boolean fromSnapshot;
+
+    private final PageReset pageReset = RegistrationPopup.reset(URL, CreateAccountTests.class);
+
+    @BeforeAll
+    public static void openPage() {
+        logger.info("Started - Autotests for facebook create account");
+    }
+
+    @AfterAll
+    public static void closePage() {
+        logger.info("{}", PageReset.report());
+        logger.info("{}", LocatorRegistry.report());
+    }
+
+    @BeforeEach
+    public void openCreateAccountPopup(TestInfo testInfo) {
+        fromSnapshot = testInfo.getTags().contains(Structural.TAG) && SnapshotDriver.exists(SNAPSHOT);
+        if (fromSnapshot) {
+            wd = SnapshotDriver.open(SNAPSHOT);
+            popup = new RegistrationPopup(wd);
+            logger.debug("Registration popup loaded from snapshot {}", SNAPSHOT);
+            return;
+        }
+        wd = Driver.getWebDriver();
+        popup = new RegistrationPopup(wd);
+        pageReset.prepare(wd);
+        if (SnapshotDriver.recording(SNAPSHOT)) {
+            SnapshotDriver.record(wd, SNAPSHOT);
+        }
+        logger.debug("Registration popup ready at {}", URL);
+    }
+
+    @AfterEach
+    public void releaseDriver() {
+        if (!fromSnapshot) {
+            Driver.releaseDriver();
+        } else if (wd != null) {
+            wd.quit();
+        }
+    }
+
+    @Test
+    public void signUpPopUpAppeared() {
+        try {
+            assertTrue(popup.isOpen(), "Sign up button was not displayed");
+            logger.info("Sign up button appeared - success");
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Assertion failed - sign up button was not found");
+            throw e;
+        }
+    }
+
+    @Structural
+    @Test
+    public void signUpPopUpContainsNecessaryFields() {
+        for (FormBatch.FieldResult result : popup.checkNecessaryFields()) {
+            elementIsPresent(result);
+        }
+    }
+
+    @ParameterizedTest
+    @CaseFile("cases/empty-fields.csv")
+    public void registrationWithEmptyFields(String firstName, String lastName, String email, String retypeEmail, String password) {
+        try {
+            fillRegistrationFormBatched(firstName, lastName, email, retypeEmail, password);
+            popup.submit();
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Registration with necessary fields test failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @ParameterizedTest
+    @CaseFile("cases/special-characters.csv")
+    public void registrationWithSpecialCharactersInFields(String firstName, String lastName, String email, String retypeEmail, String password) {
+        try {
+            fillRegistrationFormBatched(firstName, lastName, email, retypeEmail, password);
+            popup.submit();
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Registration with special characters test failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @ParameterizedTest
+    @CaseFile("cases/invalid-email.csv")
+    public void registrationWithInvalidEmail(String firstName, String lastName, String email, String retypeEmail, String password) {
+        try {
+            popup.fill(firstName, lastName, email, retypeEmail, password);
+            assertFalse(popup.retypeEmailAppears());
+            assertThrows(ElementNotInteractableException.class, () -> popup.retypeEmail().sendKeys("sdf"));
+            popup.submit();
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Registration with invalid email test failed {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @ParameterizedTest
+    @PairwiseCases("cases/registration-matrix.json")
+    public void registrationMatrix(String firstName, String lastName, String email, String password,
+                                   String birthdayDay, String birthdayMonth, String birthdayYear) {
+        try {
+            fillRegistrationFormBatched(firstName, lastName, email, "", password);
+            for (FormBatch.FieldResult result : popup.setBirthday(birthdayDay, birthdayMonth, birthdayYear)) {
+                assertTrue(result.ok(), () -> "Birthday field by xpath = " + result.xpath() + " was not set");
+            }
+            popup.submit();
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Registration matrix case failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Test
+    public void retypeEmailFieldAppearsAfterEnteringEmail() {
+        try {
+            popup.email().sendKeys("1234567");
+            assertFalse(popup.retypeEmailAppears());
+            assertThrows(ElementNotInteractableException.class, () -> popup.retypeEmail().sendKeys("sdf"));
+            popup.email().sendKeys("test@test.com");
+            popup.awaitRetypeEmail();
+            assertDoesNotThrow(() -> popup.retypeEmail().sendKeys("sdf"));
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Retype email field appearance test failed {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Test
+    public void customGenderFieldsAppear() {
+        try {
+            popup.genderOption("Custom").click();
+            assertTrue(popup.customGenderFieldsShown());
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Assertion of customer gender fields failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @ParameterizedTest
+    @CaseFile("cases/invalid-passwords.csv")
+    public void invalidPassword(String password) {
+        try {
+            fillRegistrationFormBatched("Olga", "Novikova", "test@test.com", "test@test.com", password);
+            popup.submit();
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Assertion of password failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Test
+    public void longAndShortValuesTest() {
+        try {
+            String longString = "fsdfsdpofkogdfiogssdfksdekreowppopcoefksdpofkspodfkcsldkmxcvjghskdnjkxvnzklcmisdfhhdfshvkdsjiojhohidnjncisodfjsdifhsuidfsjkdnkdmcospdksioruirhfskjmnkcmozckoujeiojuihsnkldcmosjfiosdfjsocdmioscisdfjiosdjcsdiocmdmcdsicosdfjodmiopcspoiaojfcoefmviefmviodslcpost";
+            String shortString = "g";
+            String longEmail = longString + "@google.com";
+            String shortEmail = "y@y.c";
+            String longPassword = "fsdfsdpofkogdfiogssdfksdekreowppopcoefk&dpofkspodfkcsldkmxcvjghskdnjkxvnzklcmisdfhhdfshvkdssd234234ojhohidnjncisodfjsdifhsuidfsjkdnkdmcospdksioruirhfskjmn!cmWERjeiojuihsnkldcmosjfiosdfjsocdmioscisdfjiosdjcsdiocmdmcdsicosdfjodmiopcspoiaojfcoefmvie!&viodslcp";
+            popup.fill(longString, longString, longEmail, longEmail, longPassword);
+            popup.submit();
+            popup.fill(shortString, shortString, shortEmail, shortEmail, "sdfs#@&");
+            popup.submit();
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Assertion of long and short values in name, email and password failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Test
+    public void emailAndRetypeEmailAreDifferent() {
+        try {
+            fillRegistrationFormBatched("Olga", "Tester", "tester@test.ru", "another@mail.com", "password34Q!");
+            popup.submit();
+        } catch (AssertionFailedError | NoSuchElementException e) {
+            logger.error("Assertion of email and retype email fields failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Test
+    public void fillFieldsErrorMessages() {
+        popup.submit();
+        popup.firstName().click();
+        assertNotNull(popup.awaitError("your name"));
+        popup.lastName().click();
+        assertNotNull(popup.awaitError("your name"));
+        popup.email().click();
+        assertNotNull(popup.awaitError("to reset your password"));
+        popup.password().click();
+        assertNotNull(popup.awaitError("at least six numbers"));
+        popup.birthdayDay().click();
+        assertNotNull(popup.awaitError("real birthday"));
+        popup.birthdayMonth().getWrappedElement().click();
+        assertNotNull(popup.awaitError("real birthday"));
+        popup.birthdayYear().click();
+        assertNotNull(popup.awaitError("real birthday"));
+        popup.genderErrorIcon().click();
+        assertNotNull(popup.awaitError("choose a gender"));
+    }
+
+    @Structural
+    @ParameterizedTest
+    @ValueSource(strings = {"1990", "2023", "1905"})
+    public void yearTest(String year) {
+        popup.birthdayYear().click();
+        popup.birthdayYearOption(year).click();
+        assertEquals(year, popup.birthdayYear().getAttribute("value"));
+    }
+
+    @Structural
+    @ParameterizedTest
+    @ValueSource(strings = {"Oct", "Jan", "Dec"})
+    public void monthTest(String month) {
+        Select select = popup.birthdayMonth();
+        select.selectByVisibleText(month);
+        List<WebElement> selectedOptions = select.getAllSelectedOptions();
+        assertEquals(month, selectedOptions.get(0).getText());
+    }
+
+    @Structural
+    @ParameterizedTest
+    @ValueSource(strings = {"Female", "Male", "Custom"})
+    public void genderTest(String gender) {
+        WebElement we = popup.genderOption(gender);
+        we.click();
+        String isChecked = we.getAttribute("checked");
+        assertNotNull(isChecked);
+        assertEquals(isChecked, "true");
+    }
+
+    @ParameterizedTest
+    @CaseFile(value = "cases/new-page-links.jsonl", columns = {"xpath", "urlPart"})
+    public void termsWindowIsOpened(String xpath, String expectedUrlPart) {
+        WindowManager windows = WindowManager.of(wd);
+        windows.track();
+        popup.element(xpath).click();
+        List<String> opened = windows.awaitNew(1);
+        try {
+            String url = windows.urls(opened).get(opened.get(0));
+            assertTrue(url.contains(expectedUrlPart), () -> "Opened window " + url + " does not contain " + expectedUrlPart);
+        } finally {
+            windows.closeAll(opened);
+        }
+    }
+
+    @Test
+    public void legalLinksOpenInNewWindows() {
+        List<String> expected = List.of("terms", "privacy", "cookies");
+        List<WebElement> links = popup.legalLinks();
+        WindowManager windows = WindowManager.of(wd);
+        Map<String, String> opened = windows.openAll(links);
+        try {
+            assertEquals(links.size(), opened.size());
+            for (String part : expected) {
+                assertTrue(opened.values().stream().anyMatch(url -> url.contains(part)), () -> "No window opened for " + part + ": " + opened.values());
+            }
+        } finally {
+            windows.closeAll(opened.keySet());
+        }
+    }
+
+    private void fillRegistrationFormBatched(String firstName, String lastName, String email, String retypeEmail, String password) {
+        for (FormBatch.FieldResult result : popup.fillBatched(firstName, lastName, email, retypeEmail, password)) {
+            assertTrue(result.ok(), () -> "Field by xpath = " + result.xpath() + " was not filled");
+        }
+    }
+
+    private void elementIsPresent(FormBatch.FieldResult result) {
+        try {
+            assertTrue(result.found(), () -> String.format("Element by xpath = %s was not found", result.xpath()));
+        } catch (AssertionFailedError e) {
+            logger.error("Assertion failed - Element by xpath = {} was not found", result.xpath());
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.example;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.util.List;
+
+/**
+ * Page object for the Davik main menu. Menu entries are lazy proxies; a submenu is opened by hovering
+ * and then read with one script call instead of one lookup per link. Entries are matched on their
+ * whitespace-normalized text, and a submenu is the list inside the entry's {@code li}.
+ */
+public class DavikMainMenu {
+
+    static final List<String> ITEMS = List.of("Company", "Products", "Industries", "Knowledge Center", "CONTACT", "Home");
+
+    static final String ITEM = "//a[normalize-space(.)='%s']";
+    static final String SUBMENU = "//li[a[normalize-space(.)='%s']]/ul";
+    private static final String MISSING_ITEMS = """
+            const texts = new Set(Array.from(document.querySelectorAll('a'), a => a.textContent.trim()));
+            return arguments[0].filter(label => !texts.has(label));
+            """;
+    private static final String VISIBLE_LINKS = """
+            return Array.from(arguments[0].querySelectorAll('a'))
+                    .filter(a => a.getClientRects().length > 0 && getComputedStyle(a).visibility !== 'hidden')
+                    .map(a => a.textContent.trim());
+            """;
+
+    private final WebDriver wd;
+    private final LocatorRegistry locators;
+    private final WaitEngine waits;
+
+    public DavikMainMenu(WebDriver wd) {
+        this.wd = wd;
+        this.locators = LocatorRegistry.of(wd);
+        this.waits = WaitEngine.of(wd);
+    }
+
+    public WebElement item(String label) {
+        return locators.lazy(String.format(ITEM, label));
+    }
+
+    /**
+     * Returns the labels that are not in the page, checked in one query once the first one has rendered.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> missingItems(List<String> labels) {
+        waits.await(String.format(ITEM, labels.get(0)));
+        return (List<String>) ((JavascriptExecutor) wd).executeScript(MISSING_ITEMS, labels);
+    }
+
+    /**
+     * Hovers over the menu entry and returns the texts of the submenu links that became visible.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> openSubmenu(String label) {
+        new Actions(wd).moveToElement(item(label)).perform();
+        WebElement submenu = waits.awaitDisplayed(String.format(SUBMENU, label));
+        return (List<String>) ((JavascriptExecutor) wd).executeScript(VISIBLE_LINKS, submenu);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the menu locators against the {@code menu.html} fixture, whose entries wrap their text in
+ * whitespace and markup the way the live menu does.
+ */
+public class DavikMainMenuTests {
+
+    private static final Path FIXTURE = Path.of("src/test/resources/fixtures/menu.html");
+
+    @Test
+    public void everyItemMatchesOneEntry() throws Exception {
+        Document dom = HtmlDom.parse(Files.readString(FIXTURE));
+        for (String label : DavikMainMenu.ITEMS) {
+            assertEquals(1, select(dom, String.format(DavikMainMenu.ITEM, label)).getLength(), label);
+        }
+    }
+
+    @Test
+    public void submenuIsTheListOfItsEntry() throws Exception {
+        Document dom = HtmlDom.parse(Files.readString(FIXTURE));
+        assertEquals(List.of("About us", "Our vision", "Our Team", "Quality", "R&D", "Sustainability"), submenu(dom, "Company"));
+        assertEquals(List.of("Food & Beverages", "Non Woven", "Agriculture", "Hygiene", "Retail", "Building & DIY"), submenu(dom, "Industries"));
+        assertEquals(List.of("Articles", "Events"), submenu(dom, "Knowledge Center"));
+        assertEquals(List.of(), submenu(dom, "Home"));
+    }
+
+    private static List<String> submenu(Document dom, String label) throws XPathExpressionException {
+        NodeList lists = select(dom, String.format(DavikMainMenu.SUBMENU, label));
+        List<String> links = new ArrayList<>();
+        for (int i = 0; i < lists.getLength(); i++) {
+            NodeList anchors = ((Element) lists.item(i)).getElementsByTagName("a");
+            for (int j = 0; j < anchors.getLength(); j++) {
+                links.add(anchors.item(j).getTextContent().trim());
+            }
+        }
+        return links;
+    }
+
+    private static NodeList select(Document dom, String xpath) throws XPathExpressionException {
+        return (NodeList) XPathFactory.newInstance().newXPath().evaluate(xpath, dom, XPathConstants.NODESET);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith({TimingExtension.class, WaitTimeExtension.class, FailureLogExtension.class, FailureArtifactExtension.class, RetryExtension.class})
+public class DavikTests {
+    private WebDriver wd;
+    private DavikMainMenu menu;
+    private static final String URL = FixtureServer.url("https://daviktapes.com/");
+
+    @BeforeEach
+    public void openPage() {
+        wd = Driver.getWebDriver();
+        wd.navigate().to(URL);
+        menu = new DavikMainMenu(wd);
+    }
+
+    @Test
+    public void mainMenu() {
+        List<String> missing = menu.missingItems(DavikMainMenu.ITEMS);
+        assertTrue(missing.isEmpty(), () -> "Main menu is missing " + missing);
+    }
+
+    @Test
+    public void companySubmenu() {
+        assertSubmenu("Company", "About us", "Our vision", "Our Team", "Quality", "R&D", "Sustainability");
+    }
+
+    @Test
+    public void productsSubmenu() {
+        assertSubmenu("Products", "Carry Handle Tape", "Resealable Finger Lift tape", "Splicing Tapes", "Pest Control",
+                "White board sticker", "Low tack tapes", "Deep freezer tape", "Printable tapes", "Double sided tapes",
+                "One Sided Tapes", "Developing Customized Products");
+    }
+
+    @Test
+    public void industriesSubmenu() {
+        assertSubmenu("Industries", "Food & Beverages", "Non Woven", "Agriculture", "Hygiene", "Retail", "Building & DIY");
+    }
+
+    @Test
+    public void knowledgeCenterSubmenu() {
+        assertSubmenu("Knowledge Center", "Articles", "Events");
+    }
+
+    private void assertSubmenu(String label, String... expected) {
+        List<String> visible = menu.openSubmenu(label);
+        List<String> missing = List.of(expected).stream().filter(item -> !visible.contains(item)).toList();
+        assertTrue(missing.isEmpty(), () -> label + " submenu does not show " + missing + ", visible: " + visible);
+    }
+
+    @AfterEach
+    public void closePage() {
+        Driver.releaseDriver();
+    }
+}
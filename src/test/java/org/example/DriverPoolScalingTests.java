@@ -0,0 +1,45 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the same form tasks through local pools of 1, 2 and 4 ({@code scaling.poolSizes}) Chrome
+ * sessions. Only runs with {@code -Dbenchmarks.run=true}. Every larger pool must finish at least
+ * {@code scaling.minSpeedup} (default 1.2) times faster than the smallest one.
+ */
+@Isolated
+@EnabledIfSystemProperty(named = "benchmarks.run", matches = "true")
+public class DriverPoolScalingTests {
+    private static final Logger logger = LogManager.getLogger(DriverPoolScalingTests.class);
+    private static final double MIN_SPEEDUP = Double.parseDouble(System.getProperty("scaling.minSpeedup", "1.2"));
+
+    @Test
+    public void wallClockScalesWithPoolSize() throws Exception {
+        Map<Integer, Long> results = new LinkedHashMap<>();
+        for (int size : FixtureTasks.intList("scaling.poolSizes", "1,2,4")) {
+            DriverPool pool = new DriverPool(DriverPool.Settings.fromSystemProperties().withSize(size), Driver::createWebDriver);
+            results.put(size, FixtureTasks.runOn(pool, size));
+        }
+        results.forEach((size, nanos) -> logger.info("Pool size {}: {} tasks in {} ms", size, FixtureTasks.TASKS, Duration.ofNanos(nanos).toMillis()));
+
+        int smallest = results.keySet().stream().min(Integer::compare).orElseThrow();
+        long baseline = results.get(smallest);
+        results.forEach((size, nanos) -> {
+            if (size > smallest) {
+                double speedup = (double) baseline / nanos;
+                assertTrue(speedup >= MIN_SPEEDUP, () -> String.format("Pool size %d was %.2fx as fast as size %d, expected at least %.1fx",
+                        size, speedup, smallest, MIN_SPEEDUP));
+            }
+        });
+    }
+}
@@ -0,0 +1,198 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogType;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Saves a screenshot, the page source, the browser console, the {@link CommandTrace} and the
+ * trace's DOM snapshots of a test that fails in its body or in {@code @BeforeEach}. Everything is
+ * read from the session before {@code @AfterEach} can reset or release it, and written to
+ * {@code artifacts.dir} (default {@code target/artifacts}) on a background thread, one directory
+ * per test invocation and attempt; failed attempts of a retried test are captured as {@link RetryExtension} reports them.
+ * <p>
+ * Passing tests only pay for the trace and this bookkeeping. Their own trace time plus this
+ * extension's time is logged at the end of the run as a share of their duration; above
+ * {@code artifacts.budget} percent (default 1) DOM snapshots are switched off. Failed tests are
+ * left out of both sides of that share.
+ */
+public class FailureArtifactExtension implements BeforeEachCallback, AfterTestExecutionCallback, LifecycleMethodExecutionExceptionHandler,
+        RetryExtension.Listener {
+    private static final Logger logger = LogManager.getLogger(FailureArtifactExtension.class);
+    private static final Path DIR = Path.of(System.getProperty("artifacts.dir", "target/artifacts"));
+    private static final double BUDGET = Double.parseDouble(System.getProperty("artifacts.budget", "1"));
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FailureArtifactExtension.class);
+
+    private static final int MIN_TESTS_FOR_BUDGET = 10;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        long start = System.nanoTime();
+        run(context);
+        CommandTrace.reset();
+        RetryExtension.listen(context, this);
+        context.getStore(NAMESPACE).put("start", start);
+        context.getStore(NAMESPACE).put("setup", System.nanoTime() - start);
+    }
+
+    @Override
+    public void attemptFailed(ExtensionContext context, Throwable failure) {
+        capture(context, failure);
+    }
+
+    @Override
+    public void retryStarting(ExtensionContext context) {
+        CommandTrace.reset();
+        context.getStore(NAMESPACE).put("start", System.nanoTime());
+        context.getStore(NAMESPACE).put("setup", 0L);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            capture(context, context.getExecutionException().get());
+            return;
+        }
+        long start = System.nanoTime();
+        Long began = context.getStore(NAMESPACE).remove("start", Long.class);
+        Long setup = context.getStore(NAMESPACE).remove("setup", Long.class);
+        if (began == null || setup == null) {
+            return;
+        }
+        Run run = run(context);
+        run.testNanos.add(start - began);
+        run.overheadNanos.add(setup + CommandTrace.overheadNanos());
+        if (run.passed.incrementAndGet() >= MIN_TESTS_FOR_BUDGET && run.overheadPercent() > BUDGET) {
+            CommandTrace.disableSnapshots();
+        }
+        run.overheadNanos.add(System.nanoTime() - start);
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        capture(context, throwable);
+        throw throwable;
+    }
+
+    /**
+     * Reads everything from the browser right away and leaves the file writes to the writer thread.
+     */
+    private static void capture(ExtensionContext context, Throwable cause) {
+        String test = TestIds.of(context);
+        WebDriver wd = CommandTrace.driver();
+        byte[] screenshot = null;
+        String source = null;
+        List<String> console = new ArrayList<>();
+        if (wd != null) {
+            try {
+                if (wd instanceof TakesScreenshot camera) {
+                    screenshot = camera.getScreenshotAs(OutputType.BYTES);
+                }
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                logger.debug("No screenshot for {}: {}", test, e.getMessage());
+            }
+            try {
+                source = wd.getPageSource();
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                logger.debug("No page source for {}: {}", test, e.getMessage());
+            }
+            try {
+                wd.manage().logs().get(LogType.BROWSER).forEach(entry -> console.add(entry.toString()));
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                logger.debug("No console log for {}: {}", test, e.getMessage());
+            }
+        }
+        List<String> trace = CommandTrace.lines();
+        List<CommandTrace.Snapshot> snapshots = CommandTrace.snapshots();
+        StringWriter stack = new StringWriter();
+        cause.printStackTrace(new PrintWriter(stack));
+        Path dir = DIR.resolve(test.replaceAll("[^\\w.-]+", "_"));
+        byte[] png = screenshot;
+        String html = source;
+        run(context).writer.execute(() -> {
+            try {
+                Files.createDirectories(dir);
+                Files.writeString(dir.resolve("failure.txt"), stack.toString());
+                Files.write(dir.resolve("commands.log"), trace);
+                Files.write(dir.resolve("console.log"), console);
+                if (png != null) {
+                    Files.write(dir.resolve("screenshot.png"), png);
+                }
+                if (html != null) {
+                    Files.writeString(dir.resolve("page.html"), html);
+                }
+                for (int i = 0; i < snapshots.size(); i++) {
+                    CommandTrace.Snapshot snapshot = snapshots.get(i);
+                    Files.writeString(dir.resolve("dom-" + (i + 1) + ".html"), "<!-- " + snapshot.taken() + " " + snapshot.url() + " -->\n" + snapshot.html());
+                }
+                logger.info("Failure artifacts of {} written to {}", test, dir.toAbsolutePath());
+            } catch (IOException e) {
+                logger.error("Failed to write failure artifacts of {}: {}", test, e.getMessage());
+            }
+        });
+    }
+
+    private static Run run(ExtensionContext context) {
+        return context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL).getOrComputeIfAbsent(Run.class, k -> new Run(), Run.class);
+    }
+
+    /**
+     * The writer thread and overhead counters of one test run; closing it waits for the pending writes.
+     */
+    private static final class Run implements ExtensionContext.Store.CloseableResource {
+        private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "failure-artifacts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private final AtomicInteger passed = new AtomicInteger();
+        private final LongAdder testNanos = new LongAdder();
+        private final LongAdder overheadNanos = new LongAdder();
+
+        private double overheadPercent() {
+            long tests = testNanos.sum();
+            return tests == 0 ? 0 : 100.0 * overheadNanos.sum() / tests;
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            writer.shutdown();
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Failure artifacts still being written after 30 s");
+            }
+            if (passed.get() == 0) {
+                return;
+            }
+            double percent = overheadPercent();
+            String message = String.format(Locale.ROOT, "Failure capture overhead: %.1f ms of %.1f ms passing test time (%.2f%%, budget %.2f%%)",
+                    overheadNanos.sum() / 1e6, testNanos.sum() / 1e6, percent, BUDGET);
+            if (percent > BUDGET) {
+                logger.warn(message);
+            } else {
+                logger.info(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.impl.MutableLogEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the most recent debug and trace events of test threads in memory instead of writing
+ * them out. {@link FailureLogExtension} starts a thread's buffer when a test begins on it and
+ * replays it when the test fails; events of other threads are dropped.
+ * <p>
+ * Each thread gets a ring of {@link MutableLogEvent} slots that are overwritten in place, so
+ * buffering the (mostly discarded) debug output allocates nothing once the ring is full.
+ */
+@Plugin(name = "FailureContext", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class FailureContextAppender extends AbstractAppender {
+
+    private static final Map<Long, Ring> buffers = new ConcurrentHashMap<>();
+    private static volatile int capacity = 256;
+
+    private FailureContextAppender(String name, int size) {
+        super(name, null, null, true, Property.EMPTY_ARRAY);
+        capacity = size;
+    }
+
+    @PluginFactory
+    public static FailureContextAppender createAppender(@PluginAttribute("name") String name,
+                                                       @PluginAttribute(value = "size", defaultInt = 256) int size) {
+        return new FailureContextAppender(name, size);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        if (event.getLevel().isMoreSpecificThan(Level.INFO)) {
+            return;
+        }
+        Ring buffer = buffers.get(event.getThreadId());
+        if (buffer != null) {
+            buffer.add(event);
+        }
+    }
+
+    /**
+     * Starts buffering for a test running on {@code threadId}, dropping what an earlier test left.
+     */
+    static void begin(long threadId) {
+        buffers.computeIfAbsent(threadId, k -> new Ring(capacity)).clear();
+    }
+
+    static void flush(long threadId, Appender target) {
+        Ring buffer = buffers.get(threadId);
+        if (buffer == null) {
+            return;
+        }
+        buffer.drainTo(target);
+    }
+
+    /**
+     * Only ever touched by its own thread: events are appended synchronously on the logging thread,
+     * and tests clear and flush the buffer of the thread they run on.
+     */
+    private static final class Ring {
+        private final MutableLogEvent[] slots;
+        private int next;
+        private int size;
+
+        private Ring(int capacity) {
+            slots = new MutableLogEvent[Math.max(1, capacity)];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = new MutableLogEvent();
+            }
+        }
+
+        private void add(LogEvent event) {
+            slots[next].initFrom(event);
+            next = (next + 1) % slots.length;
+            size = Math.min(size + 1, slots.length);
+        }
+
+        private void clear() {
+            for (int i = 0; i < size; i++) {
+                slots[(next - size + i + slots.length) % slots.length].clear();
+            }
+            size = 0;
+        }
+
+        private void drainTo(Appender target) {
+            for (int i = 0; i < size; i++) {
+                target.append(slots[(next - size + i + slots.length) % slots.length]);
+            }
+            clear();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+/**
+ * Writes the buffered debug context of a test, or of a failed attempt of a retried test, to the
+ * regular log appenders when it fails.
+ */
+public class FailureLogExtension implements BeforeEachCallback, TestWatcher, RetryExtension.Listener {
+    private static final Logger logger = LogManager.getLogger(FailureLogExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        FailureContextAppender.begin(Thread.currentThread().getId());
+        RetryExtension.listen(context, this);
+    }
+
+    @Override
+    public void attemptFailed(ExtensionContext context, Throwable failure) {
+        flush("Debug context of failed attempt {}:", context);
+    }
+
+    @Override
+    public void retryStarting(ExtensionContext context) {
+        FailureContextAppender.begin(Thread.currentThread().getId());
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        flush("Debug context of failed test {}:", context);
+    }
+
+    private static void flush(String header, ExtensionContext context) {
+        Appender target = LoggerContext.getContext(false).getConfiguration().getAppender("Async");
+        if (target == null) {
+            return;
+        }
+        logger.warn(header, TestIds.of(context));
+        FailureContextAppender.flush(Thread.currentThread().getId(), target);
+    }
+}
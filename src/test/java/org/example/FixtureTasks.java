@@ -0,0 +1,74 @@
+package org.example;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The fixture page and form task shared by the {@code @Isolated} benchmark tests.
+ */
+final class FixtureTasks {
+
+    static final String REGISTRATION_URL = FixtureServer.fixture("registration.html");
+    static final int TASKS = Integer.getInteger("scaling.tasks", 16);
+
+    private FixtureTasks() {
+    }
+
+    /**
+     * Opens the registration fixture, fills the first fields and returns the first name read back.
+     */
+    static String fillRegistration(WebDriver wd) {
+        wd.get(REGISTRATION_URL);
+        wd.findElement(By.xpath(RegistrationPopup.CREATE_ACCOUNT)).click();
+        wd.findElement(By.xpath(RegistrationPopup.FIRST_NAME)).sendKeys("Olga");
+        wd.findElement(By.xpath(RegistrationPopup.LAST_NAME)).sendKeys("Novikova");
+        wd.findElement(By.xpath(RegistrationPopup.PASSWORD)).sendKeys("QwertY45");
+        return wd.findElement(By.xpath(RegistrationPopup.FIRST_NAME)).getAttribute("value");
+    }
+
+    /**
+     * Runs {@link #TASKS} form tasks on {@code threads} threads sharing {@code pool}, shuts the pool
+     * down and returns the wall-clock nanos they took.
+     */
+    static long runOn(DriverPool pool, int threads) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                futures.add(executor.submit(() -> {
+                    WebDriver wd = pool.acquire();
+                    try {
+                        return fillRegistration(wd);
+                    } finally {
+                        pool.release();
+                    }
+                }));
+            }
+            for (Future<String> future : futures) {
+                assertEquals("Olga", future.get());
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    static int[] intList(String property, String defaults) {
+        return Arrays.stream(System.getProperty(property, defaults).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+}
@@ -0,0 +1,125 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * How often each test only passed after a retry, kept next to {@link TestHistory} in {@code flakes.json}.
+ * A test whose weighted flake score reaches {@code quarantine.threshold} (default 0.3) after at
+ * least {@code quarantine.minRuns} (default 3) runs is quarantined; it drops out again once its
+ * quarantine runs bring the score back down. Runs in which a test failed every attempt leave the
+ * score alone and are counted in a row as {@code brokenRuns} instead.
+ */
+final class FlakeStore {
+
+    private static final Logger logger = LogManager.getLogger(FlakeStore.class);
+    private static final Path FILE = TestHistory.DIR.resolve("flakes.json");
+    private static final double ALPHA = 0.3;
+    private static final double THRESHOLD = Double.parseDouble(System.getProperty("quarantine.threshold", "0.3"));
+    private static final int MIN_RUNS = Integer.getInteger("quarantine.minRuns", 3);
+
+    private static final Map<String, Entry> entries = load();
+
+    private FlakeStore() {
+    }
+
+    static boolean quarantined(String key) {
+        return quarantined(entries.get(key));
+    }
+
+    static boolean quarantined(Entry entry) {
+        return entry != null && entry.runs >= MIN_RUNS && entry.flakeScore >= THRESHOLD;
+    }
+
+    /**
+     * {@code previous}, or {@code null} for a new test, with one more passing run folded in.
+     */
+    static Entry fold(Entry previous, boolean flake) {
+        return previous == null
+                ? new Entry(1, flake ? 1 : 0, flake ? 1 : 0, 0)
+                : new Entry(previous.runs + 1, previous.flakes + (flake ? 1 : 0), previous.flakeScore + ALPHA * ((flake ? 1 : 0) - previous.flakeScore), 0);
+    }
+
+    /**
+     * {@code previous}, or {@code null} for a new test, after a run in which every attempt failed.
+     */
+    static Entry broken(Entry previous) {
+        return previous == null
+                ? new Entry(0, 0, 0, 1)
+                : new Entry(previous.runs, previous.flakes, previous.flakeScore, previous.brokenRuns + 1);
+    }
+
+    /**
+     * Folds this run's outcomes in and writes the store out. {@code flaky} maps every test that passed to
+     * whether it needed a retry; {@code broken} are the tests that failed every attempt.
+     */
+    static synchronized void update(Map<String, Boolean> flaky, Set<String> broken) {
+        broken.forEach(key -> {
+            Entry entry = broken(entries.get(key));
+            entries.put(key, entry);
+            if (quarantined(entry)) {
+                logger.warn("{} is quarantined and failed every attempt in {} run(s) in a row", key, entry.brokenRuns);
+            }
+        });
+        flaky.forEach((key, flake) -> {
+            boolean wasQuarantined = quarantined(key);
+            entries.put(key, fold(entries.get(key), flake));
+            if (quarantined(key) != wasQuarantined) {
+                logger.warn("{} {} quarantine", key, wasQuarantined ? "leaves" : "moves to");
+            }
+        });
+        try {
+            Files.createDirectories(TestHistory.DIR);
+            Path tmp = Files.createTempFile(TestHistory.DIR, "flakes", ".json");
+            Map<String, Object> json = new TreeMap<>();
+            entries.forEach((key, entry) -> json.put(key, entry.toJson(quarantined(key))));
+            Files.writeString(tmp, new Json().toJson(json));
+            Files.move(tmp, FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.error("Failed to write flake store: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, Entry> load() {
+        Map<String, Entry> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(FILE)) {
+            return loaded;
+        }
+        try {
+            Map<String, Object> raw = new Json().toType(Files.readString(FILE), Json.MAP_TYPE);
+            raw.forEach((key, value) -> {
+                Map<?, ?> e = (Map<?, ?>) value;
+                Object brokenRuns = e.get("brokenRuns");
+                loaded.put(key, new Entry(((Number) e.get("runs")).intValue(), ((Number) e.get("flakes")).intValue(),
+                        ((Number) e.get("flakeScore")).doubleValue(), brokenRuns == null ? 0 : ((Number) brokenRuns).intValue()));
+            });
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable flake store {}: {}", FILE, e.getMessage());
+        }
+        return loaded;
+    }
+
+    record Entry(int runs, int flakes, double flakeScore, int brokenRuns) {
+
+        Map<String, Object> toJson(boolean quarantined) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("runs", runs);
+            json.put("flakes", flakes);
+            json.put("flakeScore", Math.round(flakeScore * 1000) / 1000.0);
+            json.put("brokenRuns", brokenRuns);
+            json.put("quarantined", quarantined);
+            return json;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link FormBatch} leaves the form as sequential {@code sendKeys} would. Which one is
+ * faster is measured by the JMH {@code FormFillBenchmark} in {@code benchmarks/}.
+ */
+public class FormBatchTests {
+
+    private static final String[][] FIELDS = {
+            {RegistrationPopup.FIRST_NAME, "Olga"},
+            {RegistrationPopup.LAST_NAME, "Novikova"},
+            {RegistrationPopup.EMAIL, "test@test.com"},
+            {RegistrationPopup.RETYPE_EMAIL, "test@test.com"},
+            {RegistrationPopup.PASSWORD, "QwertY45"},
+    };
+
+    private WebDriver wd;
+
+    @BeforeEach
+    public void openPage() {
+        wd = Driver.getWebDriver();
+    }
+
+    @AfterEach
+    public void closePage() {
+        Driver.releaseDriver();
+    }
+
+    @Test
+    public void batchedFillMatchesSequentialFill() {
+        openFixture();
+        for (String[] field : FIELDS) {
+            wd.findElement(By.xpath(field[0])).sendKeys(field[1]);
+        }
+        List<String> sequential = readBack();
+
+        openFixture();
+        FormBatch batch = new FormBatch();
+        for (String[] field : FIELDS) {
+            batch.fill(field[0], field[1]);
+        }
+        List<FormBatch.FieldResult> results = batch.run(wd);
+        results.forEach(r -> assertTrue(r.ok(), r.xpath()));
+
+        List<String> expected = new ArrayList<>();
+        for (String[] field : FIELDS) {
+            expected.add(field[1]);
+        }
+        assertEquals(expected, sequential);
+        assertEquals(sequential, readBack());
+        assertEquals(expected, results.stream().map(FormBatch.FieldResult::value).toList());
+    }
+
+    private void openFixture() {
+        wd.get(FixtureTasks.REGISTRATION_URL);
+        wd.findElement(By.xpath(RegistrationPopup.CREATE_ACCOUNT)).click();
+    }
+
+    private List<String> readBack() {
+        List<String> values = new ArrayList<>();
+        for (String[] field : FIELDS) {
+            values.add(wd.findElement(By.xpath(field[0])).getAttribute("value"));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Launcher listener, registered through {@code META-INF/services}, that feeds {@link TestHistory}
+ * with the duration and outcome of every test and reports the time to the first failure and to
+ * completion. A retried test's duration only counts its last attempt, so history keeps the usual time
+ * of a passing run. Each run is appended to {@code runs.csv} in the history directory, so orderings can be compared.
+ */
+public class HistoryListener implements TestExecutionListener {
+
+    private static final Logger logger = LogManager.getLogger(HistoryListener.class);
+
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final Map<String, Long> folded = new ConcurrentHashMap<>();
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> failed = new ConcurrentHashMap<>();
+    private final AtomicLong firstFailure = new AtomicLong(-1);
+    private volatile long planStart;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        planStart = System.nanoTime();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            started.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+        String nanos = entry.getKeyValuePairs().get(RetryExtension.FOLDED_NANOS);
+        if (nanos != null) {
+            folded.put(testIdentifier.getUniqueId(), Long.parseLong(nanos));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        Long start = started.remove(testIdentifier.getUniqueId());
+        long retries = folded.getOrDefault(testIdentifier.getUniqueId(), 0L);
+        folded.remove(testIdentifier.getUniqueId());
+        if (start == null || !(testIdentifier.getSource().orElse(null) instanceof MethodSource source)) {
+            return;
+        }
+        long now = System.nanoTime();
+        String key = TestIds.methodOf(source.getJavaClass(), source.getMethodName());
+        durations.merge(key, Duration.ofNanos(now - start - retries).toMillis(), Long::sum);
+        if (result.getStatus() != TestExecutionResult.Status.SUCCESSFUL) {
+            failed.put(key, true);
+            firstFailure.compareAndSet(-1, now - planStart);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (durations.isEmpty()) {
+            return;
+        }
+        long total = Duration.ofNanos(System.nanoTime() - planStart).toMillis();
+        long first = firstFailure.get() < 0 ? -1 : Duration.ofNanos(firstFailure.get()).toMillis();
+        String mode = HistoryOrderer.FAIL_FAST ? "fail-fast" : "critical-path";
+        logger.info("Run finished in {} ms with {} ordering, {} of {} test methods failed, first failure after {}", total, mode,
+                failed.size(), durations.size(), first < 0 ? "-" : first + " ms");
+        TestHistory.update(durations, failed);
+        try {
+            boolean header = !Files.exists(TestHistory.DIR.resolve("runs.csv"));
+            Files.writeString(TestHistory.DIR.resolve("runs.csv"),
+                    (header ? "finished,ordering,tests,failed,total_ms,first_failure_ms\n" : "")
+                            + String.join(",", Instant.now().toString(), mode, String.valueOf(durations.size()),
+                            String.valueOf(failed.size()), String.valueOf(total), first < 0 ? "" : String.valueOf(first)) + "\n",
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.error("Failed to append run summary: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Orders classes and methods from {@link TestHistory}. By default tests that failed last time go
+ * first, then the longest ones, so a parallel run does not end waiting on one slow straggler.
+ * With {@code -Dorder.failFast=true} the tests most likely to fail go first, cheaper ones before
+ * more expensive ones. Tests without history are treated as slow and moderately likely to fail.
+ * <p>
+ * The order only decides which tests start first: methods keep the configured execution mode
+ * rather than the orderer default of {@code SAME_THREAD}, so they still run in parallel.
+ */
+public class HistoryOrderer implements MethodOrderer, ClassOrderer {
+
+    static final boolean FAIL_FAST = Boolean.getBoolean("order.failFast");
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        sort(context.getMethodDescriptors(), d -> List.of(TestIds.methodOf(context.getTestClass(), d.getMethod().getName())));
+    }
+
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        sort(context.getClassDescriptors(), d -> TestIds.methodsOf(d.getTestClass()));
+    }
+
+    private static <T> void sort(List<T> descriptors, Function<T, List<String>> keys) {
+        Comparator<Score> order = FAIL_FAST
+                ? Comparator.comparingDouble(Score::failure).reversed().thenComparingDouble(Score::millis)
+                : Comparator.comparing(Score::lastFailed).reversed().thenComparing(Comparator.comparingDouble(Score::millis).reversed());
+        descriptors.sort(Comparator.comparing(d -> score(keys.apply(d)), order));
+    }
+
+    private static Score score(List<String> keys) {
+        double millis = 0;
+        double failure = 0;
+        boolean lastFailed = false;
+        for (String key : keys) {
+            double duration = TestHistory.durationMillis(key);
+            millis += Double.isNaN(duration) ? Double.POSITIVE_INFINITY : duration;
+            failure = Math.max(failure, TestHistory.failureScore(key));
+            lastFailed |= TestHistory.lastFailed(key);
+        }
+        return new Score(millis, failure, lastFailed);
+    }
+
+    private record Score(double millis, double failure, boolean lastFailed) {
+    }
+}
@@ -0,0 +1,56 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+public class HistoryOrdererTests {
+
+    @Test
+    public void orderedMethodsOfOneClassRunConcurrently() {
+        LauncherDiscoveryRequest discovery = request()
+                .selectors(selectClass(TwoMethods.class))
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+                .configurationParameter("junit.jupiter.testmethod.order.default", HistoryOrderer.class.getName())
+                .build();
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder().enableTestExecutionListenerAutoRegistration(false).build());
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        launcher.execute(discovery, listener);
+
+        TestExecutionSummary summary = listener.getSummary();
+        assertEquals(0, summary.getTotalFailureCount(), () -> "Both methods must be inside the barrier at the same time: "
+                + summary.getFailures().stream().map(failure -> failure.getTestIdentifier().getDisplayName() + " " + failure.getException()).toList());
+        assertEquals(2, summary.getTestsSucceededCount());
+    }
+
+    /**
+     * Only run through the launcher above; each method waits for the other to start.
+     */
+    static class TwoMethods {
+        private static final CyclicBarrier bothRunning = new CyclicBarrier(2);
+
+        @Test
+        void first() throws Exception {
+            bothRunning.await(10, TimeUnit.SECONDS);
+        }
+
+        @Test
+        void second() throws Exception {
+            bothRunning.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates parameterized test cases that cover every pair of values of every two fields
+ * at least once. The resource is a JSON array of {@code {"field": ..., "values": [...]}}
+ * objects; arguments are passed in field order.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ArgumentsSource(PairwiseProvider.class)
+public @interface PairwiseCases {
+
+    String value();
+}
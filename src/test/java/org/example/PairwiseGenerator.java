@@ -0,0 +1,112 @@
+package org.example;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Greedy all-pairs generator in the style of AETG. Each case starts from an uncovered pair and
+ * fills the remaining fields with the value that covers the most uncovered pairs, so the number
+ * of cases grows with the product of the two largest value sets rather than of all of them.
+ * Cases are produced one at a time; only the pair coverage table is kept in memory.
+ */
+public class PairwiseGenerator implements Iterator<Object[]> {
+
+    private final Object[][] values;
+    private final BitSet[][] uncovered;
+    private int remaining;
+
+    public PairwiseGenerator(Object[][] values) {
+        this.values = values;
+        int n = values.length;
+        this.uncovered = new BitSet[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int size = values[i].length * values[j].length;
+                uncovered[i][j] = new BitSet(size);
+                uncovered[i][j].set(0, size);
+                remaining += size;
+            }
+        }
+        if (n == 1) {
+            remaining = values[0].length;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int n = values.length;
+        int[] chosen = new int[n];
+        if (n == 1) {
+            chosen[0] = values[0].length - remaining--;
+            return new Object[]{values[0][chosen[0]]};
+        }
+        boolean[] fixed = new boolean[n];
+        seedWithUncoveredPair(chosen, fixed);
+        for (int k = 0; k < n; k++) {
+            if (!fixed[k]) {
+                chosen[k] = bestValue(k, chosen, fixed);
+                fixed[k] = true;
+            }
+        }
+        Object[] result = new Object[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = values[i][chosen[i]];
+            for (int j = i + 1; j < n; j++) {
+                int bit = chosen[i] * values[j].length + chosen[j];
+                if (uncovered[i][j].get(bit)) {
+                    uncovered[i][j].clear(bit);
+                    remaining--;
+                }
+            }
+        }
+        return result;
+    }
+
+    private void seedWithUncoveredPair(int[] chosen, boolean[] fixed) {
+        for (int i = 0; i < values.length; i++) {
+            for (int j = i + 1; j < values.length; j++) {
+                int bit = uncovered[i][j].nextSetBit(0);
+                if (bit >= 0) {
+                    chosen[i] = bit / values[j].length;
+                    chosen[j] = bit % values[j].length;
+                    fixed[i] = true;
+                    fixed[j] = true;
+                    return;
+                }
+            }
+        }
+    }
+
+    private int bestValue(int k, int[] chosen, boolean[] fixed) {
+        int best = 0;
+        int bestScore = -1;
+        for (int v = 0; v < values[k].length; v++) {
+            int score = 0;
+            for (int other = 0; other < values.length; other++) {
+                if (other != k && fixed[other] && isUncovered(k, v, other, chosen[other])) {
+                    score++;
+                }
+            }
+            if (score > bestScore) {
+                best = v;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private boolean isUncovered(int a, int va, int b, int vb) {
+        return a < b
+                ? uncovered[a][b].get(va * values[b].length + vb)
+                : uncovered[b][a].get(vb * values[a].length + va);
+    }
+}
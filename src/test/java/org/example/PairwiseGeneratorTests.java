@@ -0,0 +1,49 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PairwiseGeneratorTests {
+
+    @Test
+    public void everyValuePairIsCoveredInFewerRowsThanTheProduct() {
+        Object[][] values = {
+                {"a1", "a2", "a3"},
+                {"b1", "b2", "b3", "b4"},
+                {"c1", "c2"},
+                {"d1", "d2", "d3", "d4", "d5"},
+                {"e1", "e2", "e3"},
+        };
+        List<Object[]> rows = new ArrayList<>();
+        new PairwiseGenerator(values).forEachRemaining(rows::add);
+
+        int product = 1;
+        for (Object[] field : values) {
+            product *= field.length;
+        }
+        assertTrue(rows.size() < product, rows.size() + " rows for a product of " + product);
+        for (int i = 0; i < values.length; i++) {
+            for (int j = i + 1; j < values.length; j++) {
+                for (Object a : values[i]) {
+                    for (Object b : values[j]) {
+                        int fi = i;
+                        int fj = j;
+                        assertTrue(rows.stream().anyMatch(row -> row[fi].equals(a) && row[fj].equals(b)), a + " with " + b + " is never generated");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void singleFieldYieldsEachValueOnce() {
+        List<Object> rows = new ArrayList<>();
+        new PairwiseGenerator(new Object[][]{{"x", "y", "z"}}).forEachRemaining(row -> rows.add(row[0]));
+        assertEquals(List.of("x", "y", "z"), rows);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the {@link PairwiseCases} matrix and streams the {@link PairwiseGenerator} cases as they are generated.
+ */
+public class PairwiseProvider implements ArgumentsProvider, AnnotationConsumer<PairwiseCases> {
+
+    private String resource;
+
+    @Override
+    public void accept(PairwiseCases pairwiseCases) {
+        this.resource = pairwiseCases.value();
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        List<Map<String, Object>> fields;
+        try (InputStream in = context.getRequiredTestClass().getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Pairwise matrix not found on the classpath: " + resource);
+            }
+            fields = new Json().toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Object[][] values = new Object[fields.size()][];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ((List<?>) fields.get(i).get("values")).toArray();
+        }
+        PairwiseGenerator generator = new PairwiseGenerator(values);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(generator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .map(Arguments::of);
+    }
+}
@@ -0,0 +1,222 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+
+import java.util.List;
+
+/**
+ * Page object for the Facebook registration popup. Elements are lazy proxies that resolve once per
+ * page state through {@link LocatorRegistry}; multi-field fills and checks are single {@link FormBatch} calls.
+ */
+public class RegistrationPopup {
+    private static final Logger logger = LogManager.getLogger(RegistrationPopup.class);
+
+    static final String FORM = "//form[@id='reg']";
+    static final String CREATE_ACCOUNT = "//a[@data-testid='open-registration-form-button']";
+    static final String FIRST_NAME = "//input[@name='firstname']";
+    static final String LAST_NAME = "//input[@name='lastname']";
+    static final String EMAIL = "//input[@name = 'reg_email__' ]";
+    static final String RETYPE_EMAIL = "//input[@name='reg_email_confirmation__']";
+    static final String PASSWORD = "//input[@id='password_step_input']";
+    static final String SIGN_UP = "//button[text()='Sign Up']";
+    static final String PREFERRED_PRONOUN = "//select[@name='preferred_pronoun']";
+    static final String CUSTOM_GENDER_INPUT = "//input[@name='custom_gender']";
+    static final String BIRTHDAY_DAY = "//select[@name='birthday_day']";
+    static final String BIRTHDAY_MONTH = "//select[@name='birthday_month']";
+    static final String BIRTHDAY_YEAR = "//select[@name='birthday_year']";
+    static final String GENDER_ERROR_ICON = "//span[@data-name='gender_wrapper']/../i[1]";
+    static final String TERMS_LINK = "//a[@id='terms-link']";
+    static final String PRIVACY_LINK = "//a[@id='privacy-link']";
+    static final String COOKIES_LINK = "//a[@id='cookie-use-link']";
+    private static final String GENDER = "//*[text()='%s']//following-sibling::*[@type='radio']";
+    private static final String ERROR = "//*[contains(text(), '%s')]";
+
+    private static final String CLEAN_STATE_CHECK = """
+            const confirmation = form.querySelector("input[name='reg_email_confirmation__']");
+            const pronoun = form.querySelector("select[name='preferred_pronoun']");
+            return (!confirmation || confirmation.getClientRects().length === 0)
+                    && (!pronoun || pronoun.getClientRects().length === 0);
+            """;
+
+    private final WebDriver wd;
+    private final LocatorRegistry locators;
+    private final WaitEngine waits;
+
+    public RegistrationPopup(WebDriver wd) {
+        this.wd = wd;
+        this.locators = LocatorRegistry.of(wd);
+        this.waits = WaitEngine.of(wd);
+    }
+
+    /**
+     * Resets the popup between tests: clears the form in place, or reloads the page and opens the
+     * popup again, as chosen by the test class (see {@link PageReset#choose}).
+     */
+    public static PageReset reset(String url, Class<?> testClass) {
+        ReloadReset reload = new ReloadReset(url, RegistrationPopup::open);
+        return PageReset.choose(testClass, new FormReset(reload, FORM, CLEAN_STATE_CHECK), reload);
+    }
+
+    /**
+     * Opens the popup on a freshly loaded page.
+     */
+    public static void open(WebDriver wd) {
+        try {
+            WaitEngine.of(wd).awaitDisplayed(CREATE_ACCOUNT).click();
+        } catch (TimeoutException e) {
+            logger.error("Create account button was not found");
+            throw e;
+        }
+    }
+
+    public static String gender(String label) {
+        return String.format(GENDER, label);
+    }
+
+    public WebElement element(String xpath) {
+        return locators.lazy(xpath);
+    }
+
+    public WebElement firstName() {
+        return locators.lazy(FIRST_NAME);
+    }
+
+    public WebElement lastName() {
+        return locators.lazy(LAST_NAME);
+    }
+
+    public WebElement email() {
+        return locators.lazy(EMAIL);
+    }
+
+    public WebElement retypeEmail() {
+        return locators.lazy(RETYPE_EMAIL);
+    }
+
+    public WebElement password() {
+        return locators.lazy(PASSWORD);
+    }
+
+    public WebElement signUp() {
+        return locators.lazy(SIGN_UP);
+    }
+
+    public WebElement genderOption(String label) {
+        return locators.lazy(gender(label));
+    }
+
+    public WebElement preferredPronoun() {
+        return locators.lazy(PREFERRED_PRONOUN);
+    }
+
+    public WebElement customGenderInput() {
+        return locators.lazy(CUSTOM_GENDER_INPUT);
+    }
+
+    public WebElement birthdayDay() {
+        return locators.lazy(BIRTHDAY_DAY);
+    }
+
+    public Select birthdayMonth() {
+        return new Select(locators.lazy(BIRTHDAY_MONTH));
+    }
+
+    public WebElement birthdayYear() {
+        return locators.lazy(BIRTHDAY_YEAR);
+    }
+
+    public WebElement birthdayYearOption(String year) {
+        return locators.lazy(BIRTHDAY_YEAR + "/option[text() = '" + year + "']");
+    }
+
+    public WebElement genderErrorIcon() {
+        return locators.lazy(GENDER_ERROR_ICON);
+    }
+
+    public List<WebElement> legalLinks() {
+        return List.of(locators.lazy(TERMS_LINK), locators.lazy(PRIVACY_LINK), locators.lazy(COOKIES_LINK));
+    }
+
+    /**
+     * Waits for a validation message containing {@code fragment}.
+     */
+    public WebElement awaitError(String fragment) {
+        return waits.await(String.format(ERROR, fragment));
+    }
+
+    public boolean isOpen() {
+        return waits.isDisplayed(SIGN_UP);
+    }
+
+    public boolean customGenderFieldsShown() {
+        return waits.isDisplayed(PREFERRED_PRONOUN) && waits.isDisplayed(CUSTOM_GENDER_INPUT);
+    }
+
+    /**
+     * Negative check with the learned timeout: the confirmation field should not show up.
+     */
+    public boolean retypeEmailAppears() {
+        return waits.becomesDisplayed(RETYPE_EMAIL);
+    }
+
+    public void awaitRetypeEmail() {
+        waits.awaitDisplayed(RETYPE_EMAIL);
+    }
+
+    /**
+     * Types into the fields key by key, like a user does.
+     */
+    public void fill(String firstName, String lastName, String email, String retypeEmail, String password) {
+        logger.debug("Filling registration form: '{}', '{}', '{}', '{}', '{}'", firstName, lastName, email, retypeEmail, password);
+        firstName().sendKeys(firstName);
+        lastName().sendKeys(lastName);
+        email().sendKeys(email);
+        if (!retypeEmail.isEmpty()) {
+            retypeEmail().sendKeys(retypeEmail);
+        }
+        password().sendKeys(password);
+    }
+
+    /**
+     * Sets all fields in one round trip; the retype field is skipped when {@code retypeEmail} is empty.
+     */
+    public List<FormBatch.FieldResult> fillBatched(String firstName, String lastName, String email, String retypeEmail, String password) {
+        logger.debug("Filling registration form in batch: '{}', '{}', '{}', '{}', '{}'", firstName, lastName, email, retypeEmail, password);
+        FormBatch batch = new FormBatch()
+                .fill(FIRST_NAME, firstName)
+                .fill(LAST_NAME, lastName)
+                .fill(EMAIL, email);
+        if (!retypeEmail.isEmpty()) {
+            batch.fill(RETYPE_EMAIL, retypeEmail);
+        }
+        return batch.fill(PASSWORD, password).run(wd);
+    }
+
+    public List<FormBatch.FieldResult> setBirthday(String day, String month, String year) {
+        return new FormBatch()
+                .fill(BIRTHDAY_DAY, day)
+                .fill(BIRTHDAY_MONTH, month)
+                .fill(BIRTHDAY_YEAR, year)
+                .run(wd);
+    }
+
+    /**
+     * Checks every field a registration needs in one round trip.
+     */
+    public List<FormBatch.FieldResult> checkNecessaryFields() {
+        FormBatch batch = new FormBatch();
+        List.of(FIRST_NAME, LAST_NAME, EMAIL, PASSWORD, BIRTHDAY_DAY, BIRTHDAY_MONTH, BIRTHDAY_YEAR,
+                gender("Female"), gender("Male"), gender("Custom")).forEach(batch::present);
+        return batch.run(wd);
+    }
+
+    public void submit() {
+        logger.debug("Clicking {}", SIGN_UP);
+        signUp().click();
+    }
+}
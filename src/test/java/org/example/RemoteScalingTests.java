@@ -0,0 +1,53 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts 1, 2, 4 ({@code grid.nodeCounts}) local Selenium nodes in turn and runs the same form
+ * tasks through a pool sized to them. Needs {@code -Dgrid.jar=path/to/selenium-server.jar};
+ * the per-node timings end up in the run metrics. Every larger grid must beat the smallest one's
+ * throughput by {@code grid.minSpeedup} (default 1.2), which leaves room for the nodes sharing one machine.
+ */
+@Isolated
+@ExtendWith(TimingExtension.class)
+@EnabledIfSystemProperty(named = "grid.jar", matches = ".+")
+public class RemoteScalingTests {
+    private static final Logger logger = LogManager.getLogger(RemoteScalingTests.class);
+    private static final double MIN_SPEEDUP = Double.parseDouble(System.getProperty("grid.minSpeedup", "1.2"));
+
+    @Test
+    public void throughputScalesWithNodeCount() throws Exception {
+        Map<Integer, Double> results = new LinkedHashMap<>();
+        Path jar = Path.of(System.getProperty("grid.jar"));
+        int port = Integer.getInteger("grid.local.port", LocalGrid.DEFAULT_PORT);
+        for (int nodes : FixtureTasks.intList("grid.nodeCounts", "1,2,4")) {
+            try (LocalGrid grid = LocalGrid.start(nodes, jar, port, 1)) {
+                RemoteDispatcher dispatcher = new RemoteDispatcher(grid.urls(), 1);
+                DriverPool pool = new DriverPool(DriverPool.Settings.fromSystemProperties().withSize(dispatcher.capacity()),
+                        () -> dispatcher.createWebDriver(BrowserProfile.current()));
+                results.put(nodes, FixtureTasks.TASKS * 60_000_000_000.0 / FixtureTasks.runOn(pool, dispatcher.capacity()));
+            }
+        }
+        results.forEach((nodes, perMinute) -> logger.info("{} node(s): {} tasks/min", nodes, Math.round(perMinute)));
+
+        int fewest = results.keySet().stream().min(Integer::compare).orElseThrow();
+        double baseline = results.get(fewest);
+        results.forEach((nodes, perMinute) -> {
+            if (nodes > fewest) {
+                assertTrue(perMinute >= baseline * MIN_SPEEDUP, () -> String.format("%d nodes ran %.0f tasks/min, not %.1fx the %.0f of %d node(s)",
+                        nodes, perMinute, MIN_SPEEDUP, baseline, fewest));
+            }
+        });
+    }
+}
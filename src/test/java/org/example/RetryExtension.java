@@ -0,0 +1,315 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.TestAbortedException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Reruns a failed test invocation instead of the suite: {@code @AfterEach} runs with the session
+ * marked for discarding, {@code @BeforeEach} sets up a replacement, and the method runs again with
+ * the same arguments, at most {@code retry.max} (default 2) times. The pause before a retry is a
+ * tenth of the test's usual duration from {@link TestHistory}, doubling per attempt, between
+ * 100 ms and 5 s, so slow timing-sensitive pages get more time to settle.
+ * <p>
+ * JUnit sees a single invocation and runs the other extensions' callbacks once, so extensions that
+ * keep per-test state register a {@link Listener} in {@code beforeEach} to hear about the attempts.
+ * {@link TestIds#of} names every retry as its own attempt, and the time spent on failed attempts is
+ * published as the {@value #FOLDED_NANOS} report entry for {@link HistoryListener}.
+ * <p>
+ * Tests that only pass after a retry are counted in {@link FlakeStore}. Chronic flakes are skipped
+ * and only run with {@code quarantine.run=true}, as the {@code quarantine} surefire execution does
+ * after the regular tests. There a quarantined test that fails every attempt fails the build, and the
+ * store counts such runs, so a broken test cannot hide in quarantine.
+ * {@code quarantine.record=false} keeps a run out of the store. Register it last, so that the other
+ * extensions' interceptors wrap every attempt.
+ */
+public class RetryExtension implements ExecutionCondition, InvocationInterceptor {
+
+    /**
+     * Report entry with the nanos from the start of the first attempt's body to the start of the latest attempt.
+     */
+    static final String FOLDED_NANOS = "retry.foldedNanos";
+
+    private static final Logger logger = LogManager.getLogger(RetryExtension.class);
+    private static final long MIN_BACKOFF_MS = 100;
+    private static final long MAX_BACKOFF_MS = 5000;
+    private static final long UNKNOWN_BACKOFF_MS = 250;
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RetryExtension.class);
+
+    /**
+     * Per-test callbacks for the attempts JUnit does not see. All run on the test's thread.
+     */
+    interface Listener {
+
+        /**
+         * An attempt failed and will be retried; its session is still open and its {@code @AfterEach} methods have not run.
+         */
+        default void attemptFailed(ExtensionContext context, Throwable failure) {
+        }
+
+        /**
+         * A retry is about to run its {@code @BeforeEach} methods; {@link TestIds#of} already names the new attempt.
+         */
+        default void retryStarting(ExtensionContext context) {
+        }
+
+        /**
+         * A {@code setup} or {@code teardown} method, or the {@code body}, of an attempt took {@code nanos};
+         * reported for every phase JUnit's own invocation does not cover.
+         */
+        default void phaseTimed(ExtensionContext context, String phase, long nanos) {
+        }
+    }
+
+    static void listen(ExtensionContext context, Listener listener) {
+        context.getStore(NAMESPACE).getOrComputeIfAbsent(Listeners.class, k -> new Listeners(), Listeners.class).add(listener);
+    }
+
+    /**
+     * The attempt the invocation is on, 1 before any retry.
+     */
+    static int attempt(ExtensionContext context) {
+        Integer attempt = context.getStore(NAMESPACE).get("attempt", Integer.class);
+        return attempt == null ? 1 : attempt;
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (context.getTestMethod().isEmpty()) {
+            return ConditionEvaluationResult.enabled("quarantine applies to test methods");
+        }
+        return quarantineCondition(FlakeStore.quarantined(TestIds.methodOf(context)), quarantineRun(context));
+    }
+
+    static ConditionEvaluationResult quarantineCondition(boolean quarantined, boolean quarantineRun) {
+        if (quarantineRun) {
+            return quarantined
+                    ? ConditionEvaluationResult.enabled("quarantined flake")
+                    : ConditionEvaluationResult.disabled("quarantine runs only run quarantined flakes");
+        }
+        return quarantined
+                ? ConditionEvaluationResult.disabled("quarantined flake, runs with -Dquarantine.run=true")
+                : ConditionEvaluationResult.enabled("not quarantined");
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, invocationContext, extensionContext);
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, invocationContext, extensionContext);
+    }
+
+    private static void proceed(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                ExtensionContext context) throws Throwable {
+        Run run = context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL).getOrComputeIfAbsent(Run.class,
+                k -> new Run(quarantineRun(context), context.getConfigurationParameter("quarantine.record", Boolean::parseBoolean).orElse(true)),
+                Run.class);
+        String key = TestIds.methodOf(context);
+        long start = System.nanoTime();
+        try {
+            invocation.proceed();
+            run.testNanos.add(System.nanoTime() - start);
+            run.flaky.putIfAbsent(key, false);
+        } catch (TestAbortedException e) {
+            throw e;
+        } catch (Throwable failure) {
+            long body = System.nanoTime() - start;
+            run.testNanos.add(body);
+            notify(context, listener -> listener.phaseTimed(context, "body", body));
+            retry(run, key, invocationContext, context, failure, start);
+        }
+    }
+
+    private static void retry(Run run, String key, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext context,
+                              Throwable failure, long firstStart) throws Throwable {
+        int maxRetries = context.getConfigurationParameter("retry.max", Integer::parseInt).orElse(2);
+        long start = System.nanoTime();
+        Throwable last = failure;
+        try {
+            for (int retry = 1; retry <= maxRetries; retry++) {
+                long backoff = backoffMillis(TestHistory.durationMillis(key), retry);
+                logger.warn("{} failed, retry {} of {} on a new session in {} ms: {}", TestIds.of(context), retry, maxRetries, backoff,
+                        String.valueOf(last.getMessage()).lines().findFirst().orElse(""));
+                Throwable failed = last;
+                notifyReversed(context, listener -> listener.attemptFailed(context, failed));
+                try {
+                    Driver.discardCurrent();
+                    runLifecycle(context, AfterEach.class, HierarchyTraversalMode.BOTTOM_UP, "teardown");
+                    Thread.sleep(backoff);
+                    context.getStore(NAMESPACE).put("attempt", retry + 1);
+                    context.publishReportEntry(FOLDED_NANOS, String.valueOf(System.nanoTime() - firstStart));
+                    notify(context, listener -> listener.retryStarting(context));
+                    runLifecycle(context, BeforeEach.class, HierarchyTraversalMode.TOP_DOWN, "setup");
+                    long bodyStart = System.nanoTime();
+                    try {
+                        ReflectionSupport.invokeMethod(invocationContext.getExecutable(), invocationContext.getTarget().orElse(null),
+                                invocationContext.getArguments().toArray());
+                    } finally {
+                        long body = System.nanoTime() - bodyStart;
+                        notify(context, listener -> listener.phaseTimed(context, "body", body));
+                    }
+                    run.flaky.put(key, true);
+                    run.rescued.incrementAndGet();
+                    logger.info("{} passed", TestIds.of(context));
+                    return;
+                } catch (TestAbortedException | InterruptedException e) {
+                    throw e;
+                } catch (Throwable again) {
+                    failure.addSuppressed(again);
+                    last = again;
+                }
+            }
+            run.broken.add(key);
+            throw failure;
+        } finally {
+            run.retryNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static void runLifecycle(ExtensionContext context, Class<? extends Annotation> annotation, HierarchyTraversalMode order,
+                                     String phase) {
+        Object instance = context.getRequiredTestInstance();
+        for (Method method : AnnotationSupport.findAnnotatedMethods(context.getRequiredTestClass(), annotation, order)) {
+            long start = System.nanoTime();
+            try {
+                if (Arrays.stream(method.getParameterTypes()).allMatch(TestInfo.class::equals)) {
+                    // built from the method's context, so that checks on its tags see the retried test
+                    Object[] arguments = new Object[method.getParameterCount()];
+                    Arrays.fill(arguments, testInfo(context));
+                    ReflectionSupport.invokeMethod(method, instance, arguments);
+                } else {
+                    context.getExecutableInvoker().invoke(method, instance);
+                }
+            } finally {
+                long nanos = System.nanoTime() - start;
+                notify(context, listener -> listener.phaseTimed(context, phase, nanos));
+            }
+        }
+    }
+
+    private static void notify(ExtensionContext context, Consumer<Listener> callback) {
+        Listeners listeners = context.getStore(NAMESPACE).get(Listeners.class, Listeners.class);
+        if (listeners != null) {
+            listeners.forEach(callback);
+        }
+    }
+
+    private static void notifyReversed(ExtensionContext context, Consumer<Listener> callback) {
+        Listeners listeners = context.getStore(NAMESPACE).get(Listeners.class, Listeners.class);
+        if (listeners != null) {
+            for (int i = listeners.size() - 1; i >= 0; i--) {
+                callback.accept(listeners.get(i));
+            }
+        }
+    }
+
+    private static TestInfo testInfo(ExtensionContext context) {
+        return new TestInfo() {
+            @Override
+            public String getDisplayName() {
+                return context.getDisplayName();
+            }
+
+            @Override
+            public Set<String> getTags() {
+                return context.getTags();
+            }
+
+            @Override
+            public Optional<Class<?>> getTestClass() {
+                return context.getTestClass();
+            }
+
+            @Override
+            public Optional<Method> getTestMethod() {
+                return context.getTestMethod();
+            }
+        };
+    }
+
+    /**
+     * Pause before retry number {@code retry} of a test that usually takes {@code usualMillis} ({@code NaN} when unknown).
+     */
+    static long backoffMillis(double usualMillis, int retry) {
+        double base = Double.isNaN(usualMillis) ? UNKNOWN_BACKOFF_MS : usualMillis / 10;
+        return Math.max(MIN_BACKOFF_MS, Math.min(MAX_BACKOFF_MS, Math.round(base * (1L << (retry - 1)))));
+    }
+
+    private static boolean quarantineRun(ExtensionContext context) {
+        return context.getConfigurationParameter("quarantine.run", Boolean::parseBoolean).orElse(false);
+    }
+
+    private static final class Listeners extends ArrayList<Listener> {
+    }
+
+    /**
+     * Outcomes of one test run. When the run ends they go to the flake store, and the run reports what the retries saved.
+     */
+    private static final class Run implements ExtensionContext.Store.CloseableResource {
+        private final boolean quarantineRun;
+        private final boolean record;
+        private final Map<String, Boolean> flaky = new ConcurrentHashMap<>();
+        private final Set<String> broken = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger rescued = new AtomicInteger();
+        private final LongAdder testNanos = new LongAdder();
+        private final LongAdder retryNanos = new LongAdder();
+
+        private Run(boolean quarantineRun, boolean record) {
+            this.quarantineRun = quarantineRun;
+            this.record = record;
+        }
+
+        @Override
+        public void close() {
+            Map<String, Boolean> outcomes = new ConcurrentHashMap<>(flaky);
+            broken.forEach(outcomes::remove);
+            if (record) {
+                FlakeStore.update(outcomes, broken);
+            }
+            if (quarantineRun) {
+                logger.info("Quarantine run: {} quarantined test method(s) passed, {} failed {}", outcomes.size(), broken.size(),
+                        broken.isEmpty() ? "" : new TreeSet<>(broken));
+                return;
+            }
+            if (rescued.get() == 0 && broken.isEmpty()) {
+                return;
+            }
+            long retries = Duration.ofNanos(retryNanos.sum()).toMillis();
+            long rerun = Duration.ofNanos(testNanos.sum()).toMillis();
+            logger.info("Retries rescued {} flaky invocation(s) and spent {} ms; {} test method(s) still failed", rescued.get(), retries, broken.size());
+            if (rescued.get() > 0) {
+                logger.info("A suite rerun would have cost {} ms of test time, retries saved {} ms", rerun, Math.max(0, rerun - retries));
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+public class RetryExtensionTests {
+
+    @Test
+    public void retryRunsLifecycleAndListenersPerAttempt() {
+        TestExecutionSummary summary = run(FailsOnce.class);
+
+        assertEquals(1, summary.getTestsSucceededCount());
+        assertEquals(List.of(
+                "before flaky() [retried]",
+                "body 1",
+                "attemptFailed FailsOnce.flaky",
+                "after",
+                "retryStarting FailsOnce.flaky attempt 2",
+                "before flaky() [retried]",
+                "body 2",
+                "after"), FailsOnce.events);
+    }
+
+    @Test
+    public void failuresOfEveryAttemptAreKept() {
+        TestExecutionSummary summary = run(AlwaysFails.class);
+
+        assertEquals(1, summary.getTestsFailedCount());
+        Throwable failure = summary.getFailures().get(0).getException();
+        assertEquals("attempt 1", failure.getMessage());
+        assertEquals(2, failure.getSuppressed().length);
+        assertEquals("attempt 3", failure.getSuppressed()[1].getMessage());
+    }
+
+    @Test
+    public void backoffScalesWithUsualDurationWithinBounds() {
+        assertEquals(250, RetryExtension.backoffMillis(Double.NaN, 1));
+        assertEquals(500, RetryExtension.backoffMillis(Double.NaN, 2));
+        assertEquals(300, RetryExtension.backoffMillis(3000, 1));
+        assertEquals(1200, RetryExtension.backoffMillis(3000, 3));
+        assertEquals(100, RetryExtension.backoffMillis(10, 1));
+        assertEquals(5000, RetryExtension.backoffMillis(100_000, 1));
+    }
+
+    @Test
+    public void quarantineRunsOnlyRunQuarantinedTests() {
+        assertFalse(RetryExtension.quarantineCondition(false, false).isDisabled());
+        assertTrue(RetryExtension.quarantineCondition(true, false).isDisabled());
+        assertTrue(RetryExtension.quarantineCondition(false, true).isDisabled());
+        assertFalse(RetryExtension.quarantineCondition(true, true).isDisabled());
+    }
+
+    @Test
+    public void chronicFlakesAreQuarantinedUntilTheyPassAgain() {
+        FlakeStore.Entry entry = null;
+        for (int i = 0; i < 3; i++) {
+            entry = FlakeStore.fold(entry, true);
+        }
+        assertTrue(FlakeStore.quarantined(entry));
+        for (int i = 0; i < 3; i++) {
+            entry = FlakeStore.fold(entry, false);
+        }
+        assertTrue(FlakeStore.quarantined(entry), "score " + entry.flakeScore());
+        entry = FlakeStore.fold(entry, false);
+        assertFalse(FlakeStore.quarantined(entry), "score " + entry.flakeScore());
+        assertEquals(7, entry.runs());
+        assertEquals(3, entry.flakes());
+    }
+
+    @Test
+    public void brokenRunsAreCountedWithoutReleasingQuarantine() {
+        FlakeStore.Entry entry = null;
+        for (int i = 0; i < 3; i++) {
+            entry = FlakeStore.fold(entry, true);
+        }
+        for (int i = 0; i < 5; i++) {
+            entry = FlakeStore.broken(entry);
+        }
+        assertTrue(FlakeStore.quarantined(entry));
+        assertEquals(5, entry.brokenRuns());
+        assertEquals(3, entry.runs());
+        assertEquals(0, FlakeStore.fold(entry, true).brokenRuns());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void artifactsAndTimingsArePerAttempt() throws Exception {
+        Path artifacts = Path.of(System.getProperty("artifacts.dir", "target/artifacts"));
+        for (String dir : List.of("InstrumentedFlake.flaky", "InstrumentedFlake.flaky_attempt_2", "InstrumentedFlake.flaky_attempt_3")) {
+            deleteRecursively(artifacts.resolve(dir));
+        }
+
+        TestExecutionSummary summary = run(InstrumentedFlake.class);
+
+        assertEquals(1, summary.getTestsSucceededCount());
+        assertTrue(Files.readString(artifacts.resolve("InstrumentedFlake.flaky").resolve("failure.txt")).contains("attempt 1 fails"));
+        assertTrue(Files.readString(artifacts.resolve("InstrumentedFlake.flaky_attempt_2").resolve("failure.txt")).contains("attempt 2 fails"));
+        assertFalse(Files.exists(artifacts.resolve("InstrumentedFlake.flaky_attempt_3")), "the passing attempt left artifacts");
+
+        Map<String, Object> tests = (Map<String, Object>) RunMetrics.json().get("tests");
+        for (String test : List.of("InstrumentedFlake.flaky", "InstrumentedFlake.flaky attempt 2", "InstrumentedFlake.flaky attempt 3")) {
+            Map<String, Map<String, Object>> phases = (Map<String, Map<String, Object>>) tests.get(test);
+            assertNotNull(phases, "no timings for " + test);
+            for (String phase : List.of("setup", "body", "teardown")) {
+                assertEquals(1, phases.get(phase).get("count"), test + " " + phase);
+            }
+        }
+        Map<String, Map<String, Object>> last = (Map<String, Map<String, Object>>) tests.get("InstrumentedFlake.flaky attempt 3");
+        assertTrue((double) last.get("body").get("totalMs") < 200, "the last attempt's body includes earlier attempts: " + last.get("body"));
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static TestExecutionSummary run(Class<?> fixture) {
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder().enableTestExecutionListenerAutoRegistration(false).build());
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        launcher.execute(request()
+                .selectors(selectClass(fixture))
+                .configurationParameter("retry.max", "2")
+                .configurationParameter("quarantine.run", "false")
+                .configurationParameter("quarantine.record", "false")
+                .build(), listener);
+        return listener.getSummary();
+    }
+
+    /**
+     * Records the retry callbacks; registered ahead of {@link RetryExtension} like the suite's extensions.
+     */
+    static class Recorder implements BeforeEachCallback, RetryExtension.Listener {
+
+        @Override
+        public void beforeEach(ExtensionContext context) {
+            RetryExtension.listen(context, this);
+        }
+
+        @Override
+        public void attemptFailed(ExtensionContext context, Throwable failure) {
+            FailsOnce.events.add("attemptFailed " + TestIds.of(context));
+        }
+
+        @Override
+        public void retryStarting(ExtensionContext context) {
+            FailsOnce.events.add("retryStarting " + TestIds.of(context));
+        }
+    }
+
+    /**
+     * Only run through the launcher above.
+     */
+    @ExtendWith({Recorder.class, RetryExtension.class})
+    static class FailsOnce {
+        private static final List<String> events = new CopyOnWriteArrayList<>();
+        private static int attempts;
+
+        @BeforeEach
+        void setUp(TestInfo info) {
+            events.add("before " + info.getDisplayName() + " " + info.getTags());
+        }
+
+        @AfterEach
+        void tearDown() {
+            events.add("after");
+        }
+
+        @Test
+        @Tag("retried")
+        void flaky() {
+            events.add("body " + ++attempts);
+            assertTrue(attempts > 1, "first attempt fails");
+        }
+    }
+
+    /**
+     * Only run through the launcher above; fails twice, each time after a short pause.
+     */
+    @ExtendWith({TimingExtension.class, FailureArtifactExtension.class, RetryExtension.class})
+    static class InstrumentedFlake {
+        private static int attempts;
+
+        @BeforeEach
+        void setUp() {
+        }
+
+        @AfterEach
+        void tearDown() {
+        }
+
+        @Test
+        void flaky() throws InterruptedException {
+            Thread.sleep(100);
+            int attempt = ++attempts;
+            assertTrue(attempt > 2, "attempt " + attempt + " fails");
+        }
+    }
+
+    /**
+     * Only run through the launcher above.
+     */
+    @ExtendWith(RetryExtension.class)
+    static class AlwaysFails {
+        private static int attempts;
+
+        @Test
+        void broken() {
+            throw new AssertionError("attempt " + ++attempts);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example;
+
+import org.junit.jupiter.api.Tag;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test that only inspects page structure, so it runs against a {@link SnapshotDriver}
+ * instead of a browser session once the page's snapshot has been recorded; until then it runs in
+ * the browser like any other test. Also selectable as the {@code structural} tag.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag(Structural.TAG)
+public @interface Structural {
+
+    String TAG = "structural";
+}
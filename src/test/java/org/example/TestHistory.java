@@ -0,0 +1,113 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test durations and outcomes of earlier runs, kept in {@code history.dir} (default {@code .test-history}).
+ * Keys are {@code Class.method}; parameterized invocations are summed into their method.
+ * Durations and failures are exponentially weighted so the latest runs count most.
+ */
+final class TestHistory {
+
+    private static final Logger logger = LogManager.getLogger(TestHistory.class);
+    static final Path DIR = Path.of(System.getProperty("history.dir", ".test-history"));
+    private static final Path FILE = DIR.resolve("history.json");
+    private static final double ALPHA = 0.3;
+    /**
+     * Failure likelihood assumed for tests without history: new tests fail more often than settled ones.
+     */
+    private static final double UNKNOWN_FAILURE_SCORE = 0.5;
+
+    private static final Map<String, Entry> entries = load();
+
+    private TestHistory() {
+    }
+
+    static Entry get(String key) {
+        return entries.get(key);
+    }
+
+    static double durationMillis(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? Double.NaN : entry.meanMs;
+    }
+
+    static double failureScore(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? UNKNOWN_FAILURE_SCORE : entry.failureScore;
+    }
+
+    static boolean lastFailed(String key) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.lastFailed;
+    }
+
+    /**
+     * Folds the results of this run into the history and writes it out.
+     */
+    static synchronized void update(Map<String, Long> durationsMillis, Map<String, Boolean> failed) {
+        durationsMillis.forEach((key, millis) -> {
+            boolean failure = failed.getOrDefault(key, false);
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entries.put(key, new Entry(1, millis, failure ? 1 : 0, failure));
+            } else {
+                entries.put(key, new Entry(entry.runs + 1,
+                        entry.meanMs + ALPHA * (millis - entry.meanMs),
+                        entry.failureScore + ALPHA * ((failure ? 1 : 0) - entry.failureScore),
+                        failure));
+            }
+        });
+        try {
+            Files.createDirectories(DIR);
+            Path tmp = Files.createTempFile(DIR, "history", ".json");
+            Map<String, Object> json = new TreeMap<>();
+            entries.forEach((key, entry) -> json.put(key, entry.toJson()));
+            Files.writeString(tmp, new Json().toJson(json));
+            Files.move(tmp, FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.error("Failed to write test history: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, Entry> load() {
+        Map<String, Entry> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(FILE)) {
+            return loaded;
+        }
+        try {
+            Map<String, Object> raw = new Json().toType(Files.readString(FILE), Json.MAP_TYPE);
+            raw.forEach((key, value) -> {
+                Map<?, ?> e = (Map<?, ?>) value;
+                loaded.put(key, new Entry(((Number) e.get("runs")).intValue(), ((Number) e.get("meanMs")).doubleValue(),
+                        ((Number) e.get("failureScore")).doubleValue(), Boolean.TRUE.equals(e.get("lastFailed"))));
+            });
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable test history {}: {}", FILE, e.getMessage());
+        }
+        return loaded;
+    }
+
+    record Entry(int runs, double meanMs, double failureScore, boolean lastFailed) {
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("runs", runs);
+            json.put("meanMs", Math.round(meanMs * 10) / 10.0);
+            json.put("failureScore", Math.round(failureScore * 1000) / 1000.0);
+            json.put("lastFailed", lastFailed);
+            return json;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Stable, readable ids for test invocations, used as keys in metrics and history files.
+ */
+final class TestIds {
+
+    private TestIds() {
+    }
+
+    /**
+     * The invocation's id, with the attempt appended from the first retry on.
+     */
+    static String of(ExtensionContext context) {
+        String id = context.getRequiredTestClass().getSimpleName();
+        Method method = context.getTestMethod().orElse(null);
+        if (method == null) {
+            return id;
+        }
+        id += "." + method.getName();
+        String display = context.getDisplayName();
+        if (!display.equals(method.getName() + "()")) {
+            id += display;
+        }
+        int attempt = RetryExtension.attempt(context);
+        return attempt > 1 ? id + " attempt " + attempt : id;
+    }
+
+    static String methodOf(ExtensionContext context) {
+        return methodOf(context.getRequiredTestClass(), context.getRequiredTestMethod().getName());
+    }
+
+    static String methodOf(Class<?> testClass, String methodName) {
+        return testClass.getSimpleName() + "." + methodName;
+    }
+
+    /**
+     * Keys of all test methods declared in or inherited by {@code testClass}.
+     */
+    static List<String> methodsOf(Class<?> testClass) {
+        return AnnotationSupport.findAnnotatedMethods(testClass, Testable.class, HierarchyTraversalMode.TOP_DOWN).stream()
+                .map(method -> methodOf(testClass, method.getName()))
+                .toList();
+    }
+}
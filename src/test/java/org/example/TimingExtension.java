@@ -0,0 +1,82 @@
+package org.example;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Attributes WebDriver commands to the running test and times its setup, body and teardown.
+ * Retried attempts are timed on their own, as reported by {@link RetryExtension}.
+ * The collected {@link RunMetrics} are exported once all tests have finished.
+ */
+public class TimingExtension implements BeforeEachCallback, AfterEachCallback, InvocationInterceptor, RetryExtension.Listener {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TimingExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(TimingExtension.class, k -> {
+                    RunMetrics.startEndpoint();
+                    return (ExtensionContext.Store.CloseableResource) RunMetrics::export;
+                });
+        CommandMetrics.setCurrentTest(TestIds.of(context));
+        RetryExtension.listen(context, this);
+    }
+
+    @Override
+    public void retryStarting(ExtensionContext context) {
+        CommandMetrics.setCurrentTest(TestIds.of(context));
+    }
+
+    @Override
+    public void phaseTimed(ExtensionContext context, String phase, long nanos) {
+        context.getStore(NAMESPACE).put("retried", true);
+        RunMetrics.recordPhase(TestIds.of(context), phase, nanos);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        CommandMetrics.setCurrentTest("none");
+    }
+
+    @Override
+    public void interceptBeforeEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                          ExtensionContext extensionContext) throws Throwable {
+        time(invocation, extensionContext, "setup");
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        time(invocation, extensionContext, "body");
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        time(invocation, extensionContext, "body");
+    }
+
+    @Override
+    public void interceptAfterEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                         ExtensionContext extensionContext) throws Throwable {
+        time(invocation, extensionContext, "teardown");
+    }
+
+    private static void time(Invocation<Void> invocation, ExtensionContext context, String phase) throws Throwable {
+        String test = TestIds.of(context);
+        long start = System.nanoTime();
+        try {
+            invocation.proceed();
+        } finally {
+            // a retried body spans every attempt, which were timed one by one
+            if (!phase.equals("body") || context.getStore(NAMESPACE).remove("retried") == null) {
+                RunMetrics.recordPhase(test, phase, System.nanoTime() - start);
+            }
+        }
+    }
+}
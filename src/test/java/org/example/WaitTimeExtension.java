@@ -0,0 +1,39 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.time.Duration;
+
+/**
+ * Logs how long each test, and each failed attempt of a retried test, spent inside {@link WaitEngine} waits.
+ */
+public class WaitTimeExtension implements BeforeEachCallback, AfterEachCallback, RetryExtension.Listener {
+    private static final Logger logger = LogManager.getLogger(WaitTimeExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        WaitEngine.drainWaitedOnThread();
+        RetryExtension.listen(context, this);
+    }
+
+    @Override
+    public void attemptFailed(ExtensionContext context, Throwable failure) {
+        log(context);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        log(context);
+    }
+
+    private static void log(ExtensionContext context) {
+        long[] waited = WaitEngine.drainWaitedOnThread();
+        int attempt = RetryExtension.attempt(context);
+        logger.info("{} {}{} waited {} ms in {} waits", context.getRequiredTestMethod().getName(), context.getDisplayName(),
+                attempt > 1 ? " attempt " + attempt : "", Duration.ofNanos(waited[1]).toMillis(), waited[0]);
+    }
+}